@@ -15,7 +15,6 @@ public class TaskbuddyApplication {
     }
     @Bean
     public ModelMapper modelMapper() {
-		System.out.println("in model mapper creation");
 		ModelMapper mapper = new ModelMapper();
 		mapper.getConfiguration()
 				/*
@@ -0,0 +1,50 @@
+package com.taskbuddy.analytics;
+
+import java.util.SortedMap;
+
+/**
+ * Logarithmic duration buckets. Bucket 0 holds everything under a minute;
+ * after that each bucket is 2^(1/4) (about 19%) wider than the previous one, so
+ * a few dozen buckets cover minutes to years and any percentile read from
+ * them is within that relative error.
+ */
+public final class DurationHistogram {
+
+    private static final double BASE_SECONDS = 60;
+    private static final double LOG_GROWTH = Math.log(2) / 4;
+
+    private DurationHistogram() {
+    }
+
+    public static int bucketOf(long seconds) {
+        if (seconds < BASE_SECONDS) {
+            return 0;
+        }
+        return 1 + (int) Math.floor(Math.log(seconds / BASE_SECONDS) / LOG_GROWTH);
+    }
+
+    /** Geometric middle of the bucket, used as the value of everything in it. */
+    public static double midpointSeconds(int bucket) {
+        if (bucket == 0) {
+            return BASE_SECONDS / 2;
+        }
+        return BASE_SECONDS * Math.exp((bucket - 0.5) * LOG_GROWTH);
+    }
+
+    /**
+     * @param counts task count per bucket
+     * @param total sum of all counts
+     * @param quantile between 0 and 1
+     */
+    public static double percentileSeconds(SortedMap<Integer, Long> counts, long total, double quantile) {
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (var bucket : counts.entrySet()) {
+            seen += bucket.getValue();
+            if (seen >= rank) {
+                return midpointSeconds(bucket.getKey());
+            }
+        }
+        return counts.isEmpty() ? 0 : midpointSeconds(counts.lastKey());
+    }
+}
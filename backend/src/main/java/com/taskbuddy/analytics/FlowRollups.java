@@ -0,0 +1,114 @@
+package com.taskbuddy.analytics;
+
+import com.taskbuddy.enums.FlowMetric;
+import com.taskbuddy.enums.TaskStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maintains the per-project daily flow rollups incrementally, one upsert batch
+ * per task transition, so analytics never have to replay task history.
+ *
+ * <p>{@code project_flow_daily} holds net status changes per day;
+ * {@code project_flow_durations} holds lead and cycle time histograms of the
+ * tasks completed each day. On first start the daily table is seeded with the
+ * current status counts, so burndowns begin from the right totals; durations
+ * of tasks completed before that cannot be recovered.</p>
+ */
+@Component
+@Slf4j
+public class FlowRollups {
+
+    private static final String UPSERT_DAILY = "INSERT INTO project_flow_daily " +
+        "(project_id, day, status, delta, created_at) VALUES (?, ?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE delta = delta + ?";
+    private static final String UPSERT_DURATION = "INSERT INTO project_flow_durations " +
+        "(project_id, day, metric, bucket, task_count, total_seconds, created_at) VALUES (?, ?, ?, ?, 1, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE task_count = task_count + 1, total_seconds = total_seconds + ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FlowRollups(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Move one task between statuses on today's rollup.
+     * @param from previous status, or null for a new task
+     * @param to new status, or null for a deleted task
+     */
+    public void recordTransition(Long projectId, TaskStatus from, TaskStatus to) {
+        if (from == to) {
+            return;
+        }
+        Date today = Date.valueOf(LocalDate.now());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(2);
+        if (from != null) {
+            rows.add(new Object[] {projectId, today, from.name(), -1, now, -1});
+        }
+        if (to != null) {
+            rows.add(new Object[] {projectId, today, to.name(), 1, now, 1});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_DAILY, rows);
+    }
+
+    /** Add a just-completed task's lead and cycle time to today's histograms. */
+    public void recordCompletion(Long projectId, Long taskId) {
+        List<Map<String, Object>> task = jdbcTemplate.queryForList(
+            "SELECT created_at, started_at FROM tasks WHERE id = ?", taskId);
+        if (task.isEmpty()) {
+            // deleted again before this ran
+            return;
+        }
+        LocalDateTime completedAt = LocalDateTime.now();
+        Date today = Date.valueOf(completedAt.toLocalDate());
+        Timestamp now = Timestamp.valueOf(completedAt);
+        List<Object[]> rows = new ArrayList<>(2);
+        for (FlowMetric metric : FlowMetric.values()) {
+            Object start = task.get(0).get(metric == FlowMetric.LEAD_TIME ? "created_at" : "started_at");
+            if (start == null) {
+                // completed without ever being in progress: no cycle time
+                continue;
+            }
+            long seconds = Math.max(0, Duration.between(toLocalDateTime(start), completedAt).toSeconds());
+            rows.add(new Object[] {projectId, today, metric.name(), DurationHistogram.bucketOf(seconds), seconds, now, seconds});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_DURATION, rows);
+    }
+
+    public void deleteProject(Long projectId) {
+        jdbcTemplate.update("DELETE FROM project_flow_daily WHERE project_id = ?", projectId);
+        jdbcTemplate.update("DELETE FROM project_flow_durations WHERE project_id = ?", projectId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedIfEmpty() {
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM project_flow_daily", Integer.class);
+        if (rows != null && rows > 0) {
+            return;
+        }
+        int seeded = jdbcTemplate.update("INSERT INTO project_flow_daily (project_id, day, status, delta, created_at) " +
+                "SELECT project_id, ?, status, COUNT(*), ? FROM tasks GROUP BY project_id, status",
+            Date.valueOf(LocalDate.now()), Timestamp.valueOf(LocalDateTime.now()));
+        if (seeded > 0) {
+            log.info("Seeded flow rollups with {} current status counts", seeded);
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+}
@@ -0,0 +1,118 @@
+package com.taskbuddy.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskbuddy.event.CommentAdded;
+import com.taskbuddy.event.CommentDeleted;
+import com.taskbuddy.event.CommentEdited;
+import com.taskbuddy.event.DomainEvent;
+import com.taskbuddy.event.InvitationSent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Server-side cache for read-mostly GET payloads.
+ *
+ * <p>Every project has a revision that is bumped (after commit) whenever a
+ * {@link DomainEvent} that touches cached data is published; a global revision
+ * is bumped on any such change. Cached payloads are keyed by (endpoint, user, resource, revision),
+ * so invalidation is just a revision bump and stale entries age out. The same
+ * revision doubles as the ETag / Last-Modified for conditional GETs, letting
+ * controllers answer 304 without touching the services at all.</p>
+ *
+ * <p>Revision numbers come from one monotonic sequence and the ETag carries the
+ * startup epoch, so a revision evicted from memory or lost on restart can never
+ * reproduce an ETag that was handed out for different content.</p>
+ */
+@Component
+@Slf4j
+public class ResponseCache {
+
+    private static final long GLOBAL = 0L;
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Cache<Long, Revision> revisions = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .build();
+
+    private final Cache<Key, Object> payloads = Caffeine.newBuilder()
+            .maximumSize(2_000)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .recordStats()
+            .build();
+
+    public ResponseCache(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, payloads, "responseCache");
+    }
+
+    /**
+     * Current revision of everything shown for one project.
+     */
+    public Revision projectRevision(Long projectId) {
+        return revisions.get(projectId, id -> newRevision());
+    }
+
+    /**
+     * Current revision of cross-project listings (all projects, all tasks, a user's projects).
+     */
+    public Revision globalRevision() {
+        return revisions.get(GLOBAL, id -> newRevision());
+    }
+
+    /**
+     * Return the cached payload for this key and revision, computing it on a miss.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String endpoint, Long userId, Long resourceId, Revision revision, Supplier<T> loader) {
+        Key key = new Key(endpoint, userId, resourceId, revision.value());
+        return (T) payloads.get(key, k -> loader.get());
+    }
+
+    /**
+     * Runs synchronously after commit (not on the async event executor) so a
+     * client re-reading right after its own write never gets the old payload.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDomainEvent(DomainEvent event) {
+        if (event instanceof CommentAdded || event instanceof CommentEdited
+                || event instanceof CommentDeleted || event instanceof InvitationSent) {
+            return; // not part of any cached payload
+        }
+        if (event.projectId() != null) {
+            revisions.put(event.projectId(), newRevision());
+        }
+        revisions.put(GLOBAL, newRevision());
+        log.debug("Response cache revision bumped for project {}", event.projectId());
+    }
+
+    private Revision newRevision() {
+        return new Revision(sequence.incrementAndGet(), Instant.now(), epoch);
+    }
+
+    private record Key(String endpoint, Long userId, Long resourceId, long revision) {
+    }
+
+    /**
+     * A resource revision with its validators for conditional requests.
+     */
+    public record Revision(long value, Instant lastModified, String epoch) {
+
+        public String etag() {
+            return "\"" + epoch + "-" + value + "\"";
+        }
+
+        public long lastModifiedMillis() {
+            return lastModified.toEpochMilli();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.taskbuddy.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Bounded executor for asynchronous domain event listeners.
+ *
+ * <p>Listeners annotated with {@code @Async(AsyncConfig.EVENT_EXECUTOR)} run here
+ * after the publishing transaction commits, so the write path no longer pays for
+ * notifications and other side effects. The queue is bounded; when it is full the
+ * publishing thread runs the listener itself, which slows producers down instead
+ * of dropping events or growing memory without limit.</p>
+ *
+ * <p>A listener run that way executes in {@code afterCompletion}, while the
+ * committed transaction's connection is still bound to the thread. Listeners
+ * that write therefore declare {@code REQUIRES_NEW} (or {@code NOT_SUPPORTED}
+ * when they manage their own transactions), so their writes never join the
+ * finished transaction and get lost.</p>
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String EVENT_EXECUTOR = "domainEventExecutor";
+
+    @Bean(name = EVENT_EXECUTOR)
+    public ThreadPoolTaskExecutor domainEventExecutor(
+            @Value("${taskbuddy.events.executor.core-size:2}") int coreSize,
+            @Value("${taskbuddy.events.executor.max-size:4}") int maxSize,
+            @Value("${taskbuddy.events.executor.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("domain-event-");
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
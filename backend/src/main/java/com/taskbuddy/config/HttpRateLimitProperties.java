@@ -0,0 +1,59 @@
+package com.taskbuddy.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request admission settings for the HTTP API ({@code taskbuddy.ratelimit.http.*}).
+ *
+ * <p>Each request is matched against {@code routes} in order and the first match
+ * wins. A route has a token bucket per client IP or per user (bearer token) and
+ * an optional cap on requests in flight. {@code max-concurrent} additionally caps
+ * all {@code /api/**} requests in flight, so overload is shed with a 503 instead of
+ * queueing on the JDBC pool.</p>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "taskbuddy.ratelimit.http")
+@Data
+public class HttpRateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 0 disables the global concurrency limit
+    private int maxConcurrent = 100;
+
+    // distinct keys tracked per route before the least recently used are dropped
+    private long maxKeys = 100_000;
+
+    private List<Route> routes = new ArrayList<>();
+
+    public enum KeyType {
+        /** Remote address of the client; behind a proxy this needs forwarded headers (see the prod profile). */
+        CLIENT,
+        /** Subject of the caller's verified bearer token; falls back to the client address when absent or invalid. */
+        USER
+    }
+
+    @Data
+    public static class Route {
+        private String name;
+
+        // Ant-style path pattern, e.g. /api/auth/**
+        private String pattern;
+
+        private KeyType key = KeyType.CLIENT;
+
+        // 0 disables rate limiting for the route
+        private long capacity;
+
+        private Duration refillPeriod = Duration.ofSeconds(1);
+
+        // 0 disables the per-route concurrency limit
+        private int maxConcurrent;
+    }
+}
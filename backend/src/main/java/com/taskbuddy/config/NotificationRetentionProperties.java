@@ -0,0 +1,52 @@
+package com.taskbuddy.config;
+
+import com.taskbuddy.enums.NotificationType;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Retention settings for the notifications table
+ * ({@code taskbuddy.notifications.retention.*}).
+ *
+ * <p>Read notifications are kept for {@code default-ttl} unless {@code ttl.<TYPE>}
+ * overrides it; unread notifications of any type are kept for {@code unread-ttl}.
+ * Purged rows can be archived to gzipped NDJSON files in {@code archive.directory}.</p>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "taskbuddy.notifications.retention")
+@Data
+public class NotificationRetentionProperties {
+
+    private boolean enabled = true;
+
+    private String cron = "0 30 3 * * *";
+
+    private Duration defaultTtl = Duration.ofDays(30);
+
+    private Map<NotificationType, Duration> ttl = new EnumMap<>(NotificationType.class);
+
+    private Duration unreadTtl = Duration.ofDays(180);
+
+    // rows deleted per transaction
+    private int batchSize = 1000;
+
+    // pause between batches so the purge never monopolizes the table
+    private Duration batchPause = Duration.ofMillis(100);
+
+    private Archive archive = new Archive();
+
+    @Data
+    public static class Archive {
+        private boolean enabled = false;
+        private String directory = "notification-archive";
+    }
+
+    public Duration ttlFor(NotificationType type) {
+        return ttl.getOrDefault(type, defaultTtl);
+    }
+}
@@ -0,0 +1,34 @@
+package com.taskbuddy.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskbuddy.ratelimit.RateLimitFilter;
+import com.taskbuddy.security.JwtService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.cors.CorsConfigurationSource;
+
+/**
+ * Registers the {@link RateLimitFilter} as a servlet filter ordered ahead of the
+ * Spring Security filter chain.
+ */
+@Configuration
+@ConditionalOnProperty(name = "taskbuddy.ratelimit.http.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(HttpRateLimitProperties properties,
+                                                                   MeterRegistry meterRegistry,
+                                                                   ObjectMapper objectMapper,
+                                                                   JwtService jwtService,
+                                                                   CorsConfigurationSource corsConfigurationSource) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(
+            new RateLimitFilter(properties, meterRegistry, objectMapper, jwtService, corsConfigurationSource));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        return registration;
+    }
+}
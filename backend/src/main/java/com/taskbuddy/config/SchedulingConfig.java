@@ -0,0 +1,13 @@
+package com.taskbuddy.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs (outbox relay, cleanup jobs).
+ * The scheduler pool is configured through {@code spring.task.scheduling.*}.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
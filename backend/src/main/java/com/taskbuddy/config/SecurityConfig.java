@@ -1,9 +1,12 @@
 package com.taskbuddy.config;
 
+import com.taskbuddy.security.BoundedPasswordEncoder;
 import com.taskbuddy.security.JwtAuthenticationFilter;
 import com.taskbuddy.security.CustomUserDetailsService;
 import com.taskbuddy.security.JwtAuthEntryPoint;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -16,7 +19,9 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -24,7 +29,9 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
@@ -35,16 +42,38 @@ public class SecurityConfig {
     private final CustomUserDetailsService customUserDetailsService;
     private final JwtAuthEntryPoint jwtAuthEntryPoint;
 
+    /**
+     * Hashes are stored with an {@code {id}} prefix so the algorithm and its cost can
+     * change over time; legacy hashes without a prefix are BCrypt. Whenever a stored
+     * hash is not in the current encoding (other algorithm, lower BCrypt strength,
+     * no prefix) it is rehashed on the next successful login, see
+     * {@link CustomUserDetailsService#updatePassword}.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${taskbuddy.password.encoder:bcrypt}") String encoderId,
+            @Value("${taskbuddy.password.bcrypt.strength:10}") int bcryptStrength,
+            @Value("${taskbuddy.password.argon2.memory-kib:19456}") int argon2MemoryKib,
+            @Value("${taskbuddy.password.argon2.iterations:2}") int argon2Iterations,
+            @Value("${taskbuddy.password.hashing.threads:0}") int hashingThreads,
+            @Value("${taskbuddy.password.hashing.queue-capacity:200}") int hashingQueueCapacity,
+            @Value("${taskbuddy.password.hashing.max-wait:5s}") Duration hashingMaxWait) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(encoderId, Map.of(
+            "bcrypt", bcrypt,
+            "argon2", new Argon2PasswordEncoder(16, 32, 1, argon2MemoryKib, argon2Iterations)));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(delegating, threads, hashingQueueCapacity, hashingMaxWait, meterRegistry);
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(customUserDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(customUserDetailsService);
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
@@ -54,7 +83,7 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, AuthenticationProvider authenticationProvider) throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable)
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -74,7 +103,7 @@ public class SecurityConfig {
                 // everything else must be authenticated
                 .anyRequest().authenticated()
             )
-            .authenticationProvider(authenticationProvider())
+            .authenticationProvider(authenticationProvider)
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
@@ -92,7 +121,7 @@ public class SecurityConfig {
         cfg.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         cfg.setAllowedHeaders(List.of("*"));
         cfg.setAllowCredentials(true);
-        cfg.setExposedHeaders(List.of("Authorization")); // so client can read token if you send it back
+        cfg.setExposedHeaders(List.of("Authorization", "ETag")); // token if you send it back; ETag for If-Match writes
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", cfg);
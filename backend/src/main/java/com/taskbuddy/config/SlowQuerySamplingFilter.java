@@ -0,0 +1,37 @@
+package com.taskbuddy.config;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logback filter that lets through only every Nth event of a single logger.
+ * Used in the prod profile to sample Hibernate's slow-query log so that a
+ * burst of slow statements does not flood the appender. Events from any
+ * other logger pass through untouched.
+ */
+public class SlowQuerySamplingFilter extends Filter<ILoggingEvent> {
+
+    private final AtomicLong counter = new AtomicLong();
+
+    private String loggerName = "org.hibernate.SQL_SLOW";
+    private int sampleEvery = 1;
+
+    @Override
+    public FilterReply decide(ILoggingEvent event) {
+        if (!loggerName.equals(event.getLoggerName())) {
+            return FilterReply.NEUTRAL;
+        }
+        return counter.getAndIncrement() % sampleEvery == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setLoggerName(String loggerName) {
+        this.loggerName = loggerName;
+    }
+
+    public void setSampleEvery(int sampleEvery) {
+        this.sampleEvery = Math.max(1, sampleEvery);
+    }
+}
@@ -5,13 +5,14 @@ import com.taskbuddy.entity.User;
 import com.taskbuddy.security.JwtService;
 import com.taskbuddy.service.UserService;
 import com.taskbuddy.service.PasswordResetService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.bind.annotation.*;
 
 /**
@@ -27,7 +28,6 @@ public class AuthController {
     private final UserService userService;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
-    private final UserDetailsService userDetailsService;
     private final PasswordResetService passwordResetService;
 
    
@@ -40,20 +40,19 @@ public class AuthController {
   
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<AuthResponseDTO>> login(@Valid @RequestBody LoginRequestDTO loginRequest) {
-        // Authenticate user
-        authenticationManager.authenticate(
+        // Authenticate user; the principal is the already loaded user, no second lookup needed
+        Authentication authentication = authenticationManager.authenticate(
             new UsernamePasswordAuthenticationToken(
                 loginRequest.getUsername(), 
                 loginRequest.getPassword()
             )
         );
         
-        // Load user details and generate token
-        UserDetails userDetails = userDetailsService.loadUserByUsername(loginRequest.getUsername());
-        String token = jwtService.generateToken(userDetails);
+        // Generate token
+        User user = (User) authentication.getPrincipal();
+        String token = jwtService.generateToken(user);
         
         // Get user information for response
-        User user = (User) userDetails;
         AuthResponseDTO authResponse = new AuthResponseDTO(
             token,
             user.getId(),
@@ -79,15 +78,17 @@ public class AuthController {
 
    
     @PostMapping("/forgot-password")
-    public ResponseEntity<ApiResponse<String>> forgotPassword(@Valid @RequestBody ForgotPasswordRequestDTO request) {
-        ApiResponse<String> response = passwordResetService.requestPasswordReset(request);
+    public ResponseEntity<ApiResponse<String>> forgotPassword(@Valid @RequestBody ForgotPasswordRequestDTO request,
+                                                              HttpServletRequest httpRequest) {
+        ApiResponse<String> response = passwordResetService.requestPasswordReset(request, httpRequest.getRemoteAddr());
         return ResponseEntity.ok(response);
     }
 
     
     @PostMapping("/reset-password")
-    public ResponseEntity<ApiResponse<String>> resetPassword(@Valid @RequestBody ResetPasswordRequestDTO request) {
-        ApiResponse<String> response = passwordResetService.resetPassword(request);
+    public ResponseEntity<ApiResponse<String>> resetPassword(@Valid @RequestBody ResetPasswordRequestDTO request,
+                                                             HttpServletRequest httpRequest) {
+        ApiResponse<String> response = passwordResetService.resetPassword(request, httpRequest.getRemoteAddr());
         return ResponseEntity.ok(response);
     }
 
@@ -0,0 +1,50 @@
+package com.taskbuddy.controller;
+
+import com.taskbuddy.cache.ResponseCache;
+import com.taskbuddy.exception.InvalidInputException;
+
+/**
+ * Maps entity versions to ETag header values and back. Controllers send the
+ * ETag on GET and accept it in If-Match for conditional writes.
+ *
+ * <p>Resources whose body also shows data that changes without a version bump
+ * (a project's task counts) send {@code "<version>.<revision>"}, so conditional
+ * GETs see those changes. If-Match only compares the version part.</p>
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(Long version) {
+        return "\"" + (version != null ? version : 0L) + "\"";
+    }
+
+    static String of(Long version, ResponseCache.Revision revision) {
+        return "\"" + (version != null ? version : 0L) + "." + revision.epoch() + "-" + revision.value() + "\"";
+    }
+
+    /**
+     * @return the version encoded in an If-Match header, or null when the
+     *         header is absent or "*" (unconditional write)
+     */
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        value = value.replace("\"", "");
+        int revision = value.indexOf('.');
+        if (revision >= 0) {
+            value = value.substring(0, revision);
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException("Invalid If-Match header: " + ifMatch);
+        }
+    }
+}
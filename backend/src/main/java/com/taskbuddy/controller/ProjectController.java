@@ -3,8 +3,12 @@ package com.taskbuddy.controller;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
 import lombok.AllArgsConstructor;
+import com.taskbuddy.service.FlowAnalyticsService;
 import com.taskbuddy.service.ProjectService;
+import com.taskbuddy.service.ProjectViewService;
+import com.taskbuddy.cache.ResponseCache;
 import com.taskbuddy.dto.ProjectDto;
 import com.taskbuddy.dto.ApiResponse;
 import com.taskbuddy.enums.ProjectStatus;
@@ -15,6 +19,10 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import com.taskbuddy.entity.User;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping("/api/projects")
@@ -23,6 +31,9 @@ import com.taskbuddy.entity.User;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ProjectViewService projectViewService;
+    private final ResponseCache responseCache;
+    private final FlowAnalyticsService flowAnalyticsService;
     
 
     @PostMapping
@@ -41,8 +52,10 @@ public class ProjectController {
     public ResponseEntity<ApiResponse<?>> updateStatus(
         @PathVariable @Positive(message = "Project ID must be positive") Long id,
         @RequestParam @NotNull(message = "Status is required") ProjectStatus status,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @AuthenticationPrincipal User currentUser) {
-        ApiResponse<?> response = projectService.updateProjectStatus(id, status, currentUser.getId());
+        ApiResponse<?> response =
+            projectService.updateProjectStatus(id, status, currentUser.getId(), ETags.parseIfMatch(ifMatch));
         return ResponseEntity.ok(response);
     }
 
@@ -52,17 +65,30 @@ public class ProjectController {
     public ResponseEntity<ApiResponse<?>> updateProject(
         @PathVariable @Positive(message = "Project ID must be positive") Long id,
         @Valid @RequestBody ProjectDto projectDto,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @AuthenticationPrincipal User currentUser) {
 
-        ApiResponse<?> response = projectService.updateProject(id, projectDto, currentUser.getId());
+        ApiResponse<?> response =
+            projectService.updateProject(id, projectDto, currentUser.getId(), ETags.parseIfMatch(ifMatch));
         return ResponseEntity.ok(response);
     }
 
     
     @GetMapping
-    public ResponseEntity<ApiResponse<?>> getAllProjects() {
-        ApiResponse<?> response = projectService.getAllProjects();
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ApiResponse<?>> getAllProjects(
+        @AuthenticationPrincipal User currentUser,
+        WebRequest request) {
+        // Cached until any project changes; If-None-Match / If-Modified-Since answer 304
+        ResponseCache.Revision revision = responseCache.globalRevision();
+        if (request.checkNotModified(revision.etag(), revision.lastModifiedMillis())) {
+            return null;
+        }
+        ApiResponse<?> response = responseCache.get("projects", currentUser.getId(), null, revision,
+            projectService::getAllProjects);
+        return ResponseEntity.ok()
+            .eTag(revision.etag())
+            .lastModified(revision.lastModified())
+            .body(response);
     }
 
     
@@ -70,18 +96,83 @@ public class ProjectController {
     @PreAuthorize("@auth.canAccessProject(#id, principal.id)")
     public ResponseEntity<ApiResponse<?>> getProjectById(
         @PathVariable @Positive(message = "Project ID must be positive") Long id,
-        @AuthenticationPrincipal User currentUser) {
-        ApiResponse<?> response = projectService.getProjectById(id);
+        @AuthenticationPrincipal User currentUser,
+        WebRequest request) {
+        // ETag = version + project revision: writes take it back as If-Match (version part), while task changes,
+        // which bump only the revision, still change it since the body carries task counts; 304 on If-None-Match
+        ResponseCache.Revision revision = responseCache.projectRevision(id);
+        ApiResponse<ProjectDto> response = responseCache.get("project", currentUser.getId(), id, revision,
+            () -> projectService.getProjectById(id));
+        String etag = ETags.of(response.getData().getVersion(), revision);
+        if (request.checkNotModified(etag, revision.lastModifiedMillis())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .lastModified(revision.lastModified())
+            .body(response);
+    }
+
+    // GET project + members + tasks + my role in one call; cached per project revision, 304 on If-None-Match
+    @GetMapping("/{id}/view")
+    @PreAuthorize("@auth.canAccessProject(#id, principal.id)")
+    public ResponseEntity<ApiResponse<?>> getProjectView(
+        @PathVariable @Positive(message = "Project ID must be positive") Long id,
+        @AuthenticationPrincipal User currentUser,
+        WebRequest request) {
+        ResponseCache.Revision revision = responseCache.projectRevision(id);
+        if (request.checkNotModified(revision.etag(), revision.lastModifiedMillis())) {
+            return null;
+        }
+        ApiResponse<?> response = responseCache.get("project-view", currentUser.getId(), id, revision,
+            () -> projectViewService.getProjectView(id, currentUser.getId()));
+        return ResponseEntity.ok()
+            .eTag(revision.etag())
+            .lastModified(revision.lastModified())
+            .body(response);
+    }
+
+    // GET daily open / in-progress / completed counts for a burndown chart (defaults to the last 30 days)
+    @GetMapping("/{id}/analytics/burndown")
+    @PreAuthorize("@auth.canAccessProject(#id, principal.id)")
+    public ResponseEntity<ApiResponse<?>> getBurndown(
+        @PathVariable @Positive(message = "Project ID must be positive") Long id,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        ApiResponse<?> response = flowAnalyticsService.getBurndown(id, from != null ? from : end.minusDays(29), end);
+        return ResponseEntity.ok(response);
+    }
+
+    // GET lead and cycle time (mean and percentiles) of tasks completed in the period (defaults to the last 30 days)
+    @GetMapping("/{id}/analytics/flow-times")
+    @PreAuthorize("@auth.canAccessProject(#id, principal.id)")
+    public ResponseEntity<ApiResponse<?>> getFlowTimes(
+        @PathVariable @Positive(message = "Project ID must be positive") Long id,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        ApiResponse<?> response = flowAnalyticsService.getFlowTimes(id, from != null ? from : end.minusDays(29), end);
         return ResponseEntity.ok(response);
     }
 
    
     @GetMapping("/user/{userId}")
     public ResponseEntity<ApiResponse<?>> getProjectsByUserId(
-        @PathVariable @Positive(message = "User ID must be positive") Long userId) {
-
-        ApiResponse<?> response = projectService.getProjectsByUserId(userId);
-        return ResponseEntity.ok(response);
+        @PathVariable @Positive(message = "User ID must be positive") Long userId,
+        @AuthenticationPrincipal User currentUser,
+        WebRequest request) {
+
+        ResponseCache.Revision revision = responseCache.globalRevision();
+        if (request.checkNotModified(revision.etag(), revision.lastModifiedMillis())) {
+            return null;
+        }
+        ApiResponse<?> response = responseCache.get("projects-by-user", currentUser.getId(), userId, revision,
+            () -> projectService.getProjectsByUserId(userId));
+        return ResponseEntity.ok()
+            .eTag(revision.etag())
+            .lastModified(revision.lastModified())
+            .body(response);
     }
 
     
@@ -0,0 +1,55 @@
+package com.taskbuddy.controller;
+
+import org.springframework.web.bind.annotation.*;
+import org.springframework.http.ResponseEntity;
+import lombok.AllArgsConstructor;
+import com.taskbuddy.service.SearchService;
+import com.taskbuddy.dto.ApiResponse;
+import com.taskbuddy.dto.QuickSwitchItemDto;
+import com.taskbuddy.dto.SearchHitDto;
+import com.taskbuddy.entity.User;
+import com.taskbuddy.enums.SearchType;
+import com.taskbuddy.exception.InvalidInputException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+
+import java.util.List;
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/api/search")
+@AllArgsConstructor
+public class SearchController {
+    private final SearchService searchService;
+
+    // Full-text search over tasks, projects and comments of the current user's projects; type=task|project|comment narrows it
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<SearchHitDto>>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) String type,
+            @RequestParam(defaultValue = "20") int limit,
+            @AuthenticationPrincipal User currentUser) {
+        ApiResponse<List<SearchHitDto>> response = searchService.search(q, parseType(type), limit, currentUser.getId());
+        return ResponseEntity.ok(response);
+    }
+
+    // Quick switcher: projects and tasks whose names start with the typed words, called on every keystroke
+    @GetMapping("/quick")
+    public ResponseEntity<ApiResponse<List<QuickSwitchItemDto>>> quickSwitch(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit,
+            @AuthenticationPrincipal User currentUser) {
+        ApiResponse<List<QuickSwitchItemDto>> response = searchService.quickSwitch(q, limit, currentUser.getId());
+        return ResponseEntity.ok(response);
+    }
+
+    private static SearchType parseType(String type) {
+        if (type == null || type.isBlank()) {
+            return null;
+        }
+        try {
+            return SearchType.valueOf(type.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidInputException("Unknown search type '" + type + "'");
+        }
+    }
+}
@@ -3,18 +3,29 @@ package com.taskbuddy.controller;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
 import lombok.AllArgsConstructor;
+import com.taskbuddy.service.TaskActivityService;
+import com.taskbuddy.service.TaskBoardService;
+import com.taskbuddy.service.TaskDependencyService;
 import com.taskbuddy.service.TaskService;
+import com.taskbuddy.cache.ResponseCache;
 import com.taskbuddy.dto.TaskDto;
+import com.taskbuddy.dto.MoveTaskDto;
 import com.taskbuddy.dto.ApiResponse;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.access.prepost.PreAuthorize;
 import com.taskbuddy.entity.User;
+import com.taskbuddy.enums.DueWindow;
 import com.taskbuddy.enums.TaskStatus;
+import com.taskbuddy.exception.InvalidInputException;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -23,6 +34,10 @@ import org.springframework.validation.annotation.Validated;
 @Validated
 public class TaskController {
     private final TaskService taskService;
+    private final TaskBoardService taskBoardService;
+    private final TaskActivityService taskActivityService;
+    private final TaskDependencyService taskDependencyService;
+    private final ResponseCache responseCache;
 
     // Create task (project manager OR project member can create based on service check)
     @PostMapping
@@ -39,8 +54,22 @@ public class TaskController {
     public ResponseEntity<ApiResponse<?>> updateTaskStatus(
             @PathVariable @Positive(message = "Task ID must be positive") Long id,
             @RequestParam @NotNull(message = "Status is required") TaskStatus status,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @AuthenticationPrincipal User currentUser) {
+        ApiResponse<?> response =
+            taskService.updateTaskStatus(id, status, currentUser.getId(), ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok(response);
+    }
+
+    // Move a task on the board: reorder within its column, or drag into another column (assignee only)
+    @PutMapping("/{id}/move")
+    @PreAuthorize("@auth.canAccessProject(@auth.taskProjectId(#id), principal.id)")
+    public ResponseEntity<ApiResponse<?>> moveTask(
+            @PathVariable @Positive(message = "Task ID must be positive") Long id,
+            @Valid @RequestBody MoveTaskDto move,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @AuthenticationPrincipal User currentUser) {
-        ApiResponse<?> response = taskService.updateTaskStatus(id, status, currentUser.getId());
+        ApiResponse<?> response = taskService.moveTask(id, move, currentUser.getId(), ETags.parseIfMatch(ifMatch));
         return ResponseEntity.ok(response);
     }
 
@@ -55,40 +84,184 @@ public class TaskController {
         return ResponseEntity.ok(response);
     }
 
-    // GET all tasks
+    // GET all tasks; cached until any project changes, If-None-Match answers 304
     @GetMapping
-    public ResponseEntity<ApiResponse<?>> getAllTasks() {
-        ApiResponse<?> response = taskService.getAllTasks();
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ApiResponse<?>> getAllTasks(
+        @AuthenticationPrincipal User currentUser,
+        WebRequest request) {
+        ResponseCache.Revision revision = responseCache.globalRevision();
+        if (request.checkNotModified(revision.etag(), revision.lastModifiedMillis())) {
+            return null;
+        }
+        ApiResponse<?> response = responseCache.get("tasks", currentUser.getId(), null, revision,
+            taskService::getAllTasks);
+        return ResponseEntity.ok()
+            .eTag(revision.etag())
+            .lastModified(revision.lastModified())
+            .body(response);
     }
 
-    // GET task by id (authorization checked)
+    // GET task by id (authorization checked); ETag = task version, If-None-Match answers 304
     @GetMapping("/{id}")
     @PreAuthorize("@auth.canAccessProject(@auth.taskProjectId(#id), principal.id)")
     public ResponseEntity<ApiResponse<?>> getTaskById(
         @PathVariable @Positive(message = "Task ID must be positive") Long id,
         @AuthenticationPrincipal User currentUser) {
-        ApiResponse<?> response = taskService.getTaskById(id);
-        return ResponseEntity.ok(response);
+        ApiResponse<TaskDto> response = taskService.getTaskById(id);
+        return ResponseEntity.ok()
+            .eTag(ETags.of(response.getData().getVersion()))
+            .body(response);
     }
 
-    // GET tasks by project (authorization checked)
+    // GET tasks by project (authorization checked); cached per project revision
     @GetMapping("/project/{projectId}")
     @PreAuthorize("@auth.canAccessProject(#projectId, principal.id)")
     public ResponseEntity<ApiResponse<?>> getTasksByProjectId(
         @PathVariable @Positive(message = "Project ID must be positive") Long projectId,
+        @AuthenticationPrincipal User currentUser,
+        WebRequest request) {
+        ResponseCache.Revision revision = responseCache.projectRevision(projectId);
+        if (request.checkNotModified(revision.etag(), revision.lastModifiedMillis())) {
+            return null;
+        }
+        ApiResponse<?> response = responseCache.get("tasks-by-project", currentUser.getId(), projectId, revision,
+            () -> taskService.getTasksByProjectId(projectId));
+        return ResponseEntity.ok()
+            .eTag(revision.etag())
+            .lastModified(revision.lastModified())
+            .body(response);
+    }
+
+    // GET Kanban board: every status column with its count and first `perColumn` cards; cached per project revision
+    @GetMapping("/project/{projectId}/board")
+    @PreAuthorize("@auth.canAccessProject(#projectId, principal.id)")
+    public ResponseEntity<ApiResponse<?>> getBoard(
+        @PathVariable @Positive(message = "Project ID must be positive") Long projectId,
+        @RequestParam(defaultValue = "20") int perColumn,
+        @AuthenticationPrincipal User currentUser,
+        WebRequest request) {
+        ResponseCache.Revision revision = responseCache.projectRevision(projectId);
+        if (request.checkNotModified(revision.etag(), revision.lastModifiedMillis())) {
+            return null;
+        }
+        ApiResponse<?> response = responseCache.get("board:" + perColumn, currentUser.getId(), projectId, revision,
+            () -> taskBoardService.getBoard(projectId, perColumn));
+        return ResponseEntity.ok()
+            .eTag(revision.etag())
+            .lastModified(revision.lastModified())
+            .body(response);
+    }
+
+    // GET next cards of one board column; pass the column's nextCursor as `after`
+    @GetMapping("/project/{projectId}/board/{status}")
+    @PreAuthorize("@auth.canAccessProject(#projectId, principal.id)")
+    public ResponseEntity<ApiResponse<?>> getBoardColumn(
+        @PathVariable @Positive(message = "Project ID must be positive") Long projectId,
+        @PathVariable String status,
+        @RequestParam(required = false) String after,
+        @RequestParam(defaultValue = "20") int size) {
+        ApiResponse<?> response = taskBoardService.getColumn(projectId, parseStatus(status), after, size);
+        return ResponseEntity.ok(response);
+    }
+
+    // GET current user's open tasks by due date: overdue | today | upcoming (next `days` days), paged
+    @GetMapping("/due/{window}")
+    public ResponseEntity<ApiResponse<?>> getMyDueTasks(
+        @PathVariable String window,
+        @RequestParam(defaultValue = "7") int days,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size,
         @AuthenticationPrincipal User currentUser) {
-        ApiResponse<?> response = taskService.getTasksByProjectId(projectId);
+        ApiResponse<?> response =
+            taskService.getDueTasksForUser(currentUser.getId(), parseWindow(window), days, page, size);
+        return ResponseEntity.ok(response);
+    }
+
+    // GET a project's open tasks by due date (authorization checked), paged
+    @GetMapping("/project/{projectId}/due/{window}")
+    @PreAuthorize("@auth.canAccessProject(#projectId, principal.id)")
+    public ResponseEntity<ApiResponse<?>> getProjectDueTasks(
+        @PathVariable @Positive(message = "Project ID must be positive") Long projectId,
+        @PathVariable String window,
+        @RequestParam(defaultValue = "7") int days,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size) {
+        ApiResponse<?> response =
+            taskService.getDueTasksForProject(projectId, parseWindow(window), days, page, size);
+        return ResponseEntity.ok(response);
+    }
+
+    // GET the change history of a task, newest first, paged
+    @GetMapping("/{id}/activity")
+    @PreAuthorize("@auth.canAccessProject(@auth.taskProjectId(#id), principal.id)")
+    public ResponseEntity<ApiResponse<?>> getTaskActivity(
+        @PathVariable @Positive(message = "Task ID must be positive") Long id,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size) {
+        ApiResponse<?> response = taskActivityService.getTaskActivity(id, page, size);
         return ResponseEntity.ok(response);
     }
 
-    // Update task (manager or assignee)
+    // GET the change history of all tasks in a project (deleted ones included), newest first, paged
+    @GetMapping("/project/{projectId}/activity")
+    @PreAuthorize("@auth.canAccessProject(#projectId, principal.id)")
+    public ResponseEntity<ApiResponse<?>> getProjectActivity(
+        @PathVariable @Positive(message = "Project ID must be positive") Long projectId,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size) {
+        ApiResponse<?> response = taskActivityService.getProjectActivity(projectId, page, size);
+        return ResponseEntity.ok(response);
+    }
+
+    // GET a task's blockers and the tasks it blocks, with earliest finish dates
+    @GetMapping("/{id}/dependencies")
+    @PreAuthorize("@auth.canAccessProject(@auth.taskProjectId(#id), principal.id)")
+    public ResponseEntity<ApiResponse<?>> getDependencies(
+        @PathVariable @Positive(message = "Task ID must be positive") Long id) {
+        ApiResponse<?> response = taskDependencyService.getDependencies(id);
+        return ResponseEntity.ok(response);
+    }
+
+    // Mark task as blocked by another task of the same project; rejected if it would close a cycle
+    @PostMapping("/{id}/dependencies/{blockerId}")
+    @PreAuthorize("@auth.canAccessProject(@auth.taskProjectId(#id), principal.id)")
+    public ResponseEntity<ApiResponse<?>> addDependency(
+        @PathVariable @Positive(message = "Task ID must be positive") Long id,
+        @PathVariable @Positive(message = "Blocking task ID must be positive") Long blockerId,
+        @AuthenticationPrincipal User currentUser) {
+        ApiResponse<?> response = taskDependencyService.addDependency(id, blockerId, currentUser.getId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    // Remove a blocker from task
+    @DeleteMapping("/{id}/dependencies/{blockerId}")
+    @PreAuthorize("@auth.canAccessProject(@auth.taskProjectId(#id), principal.id)")
+    public ResponseEntity<ApiResponse<?>> removeDependency(
+        @PathVariable @Positive(message = "Task ID must be positive") Long id,
+        @PathVariable @Positive(message = "Blocking task ID must be positive") Long blockerId,
+        @AuthenticationPrincipal User currentUser) {
+        ApiResponse<?> response = taskDependencyService.removeDependency(id, blockerId, currentUser.getId());
+        return ResponseEntity.ok(response);
+    }
+
+    // GET the chain of dependent tasks that decides when the project can finish, plus tasks pushed past their due date
+    @GetMapping("/project/{projectId}/critical-path")
+    @PreAuthorize("@auth.canAccessProject(#projectId, principal.id)")
+    public ResponseEntity<ApiResponse<?>> getCriticalPath(
+        @PathVariable @Positive(message = "Project ID must be positive") Long projectId) {
+        ApiResponse<?> response = taskDependencyService.getCriticalPath(projectId);
+        return ResponseEntity.ok(response);
+    }
+
+    // Update task (manager or assignee); If-Match makes it a conditional write
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<?>> updateTask(
         @PathVariable @Positive(message = "Task ID must be positive") Long id,
         @Valid @RequestBody TaskDto taskDto,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @AuthenticationPrincipal User currentUser) {
-        ApiResponse<?> response = taskService.updateTask(id, taskDto, currentUser.getId());
+        ApiResponse<?> response =
+            taskService.updateTask(id, taskDto, currentUser.getId(), ETags.parseIfMatch(ifMatch));
         return ResponseEntity.ok(response);
     }
 
@@ -100,4 +273,20 @@ public class TaskController {
         ApiResponse<?> response = taskService.deleteTask(id, currentUser.getId());
         return ResponseEntity.ok(response); 
     }
+
+    private static TaskStatus parseStatus(String status) {
+        try {
+            return TaskStatus.valueOf(status.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidInputException("Unknown task status '" + status + "'");
+        }
+    }
+
+    private static DueWindow parseWindow(String window) {
+        try {
+            return DueWindow.valueOf(window.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidInputException("Unknown due window '" + window + "', expected overdue, today or upcoming");
+        }
+    }
 }
@@ -0,0 +1,88 @@
+package com.taskbuddy.counter;
+
+import com.taskbuddy.enums.TaskStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps {@code project_task_counters} in step with {@code tasks}.
+ *
+ * <p>Writes join the caller's transaction, so a counter changes if and only if
+ * the task change it describes commits. Rows are always locked in status order
+ * so two opposite transitions in the same project cannot deadlock. Drift from
+ * writes that bypass the services is corrected by
+ * {@link com.taskbuddy.job.ProjectTaskCounterRepairJob}.</p>
+ */
+@Component
+public class ProjectTaskCounters {
+
+    private static final String UPSERT = "INSERT INTO project_task_counters " +
+        "(project_id, status, task_count, created_at) VALUES (?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE task_count = task_count + ?";
+
+    private static final String DRIFT = "SELECT project_id, status, SUM(actual) AS actual, SUM(counted) AS counted FROM (" +
+        "SELECT project_id, status, COUNT(*) AS actual, 0 AS counted FROM tasks GROUP BY project_id, status " +
+        "UNION ALL SELECT project_id, status, 0, task_count FROM project_task_counters) c " +
+        "GROUP BY project_id, status HAVING SUM(actual) <> SUM(counted)";
+
+    /** A counter that disagrees with the tasks table. */
+    public record Drift(Long projectId, TaskStatus status, long actual, long counted) {
+        public long delta() {
+            return actual - counted;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProjectTaskCounters(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Move one task between statuses.
+     * @param from previous status, or null for a new task
+     * @param to new status, or null for a deleted task
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransition(Long projectId, TaskStatus from, TaskStatus to) {
+        if (from == to) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(2);
+        for (TaskStatus status : TaskStatus.values()) {
+            if (status == from) {
+                rows.add(new Object[] {projectId, status.name(), -1, now, -1});
+            } else if (status == to) {
+                rows.add(new Object[] {projectId, status.name(), 1, now, 1});
+            }
+        }
+        jdbcTemplate.batchUpdate(UPSERT, rows);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deleteProject(Long projectId) {
+        jdbcTemplate.update("DELETE FROM project_task_counters WHERE project_id = ?", projectId);
+    }
+
+    /** Counters that differ from a fresh count of the tasks table, including counters of vanished projects. */
+    public List<Drift> findDrift() {
+        return jdbcTemplate.query(DRIFT, (rs, i) -> new Drift(rs.getLong("project_id"),
+            TaskStatus.valueOf(rs.getString("status")), rs.getLong("actual"), rs.getLong("counted")));
+    }
+
+    /**
+     * Apply a correction as a relative update, so transitions committed since
+     * the drift was measured are not overwritten.
+     */
+    public void adjust(Long projectId, TaskStatus status, long delta) {
+        jdbcTemplate.update(UPSERT, projectId, status.name(), delta, Timestamp.valueOf(LocalDateTime.now()), delta);
+    }
+}
@@ -0,0 +1,136 @@
+package com.taskbuddy.dependency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskbuddy.entity.TaskDependency;
+import com.taskbuddy.repository.TaskDependencyRepository;
+import com.taskbuddy.repository.TaskRepository;
+import com.taskbuddy.repository.TaskRepository.TaskDue;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * In-memory dependency graphs, one {@link ProjectSchedule} per project, loaded
+ * from {@code task_dependencies} on first use and then changed in place.
+ *
+ * <p>Link changes are applied while the writing transaction still holds the
+ * project lock, so the next writer checks for cycles against a graph that
+ * already contains them; if that transaction rolls back, the project's graph
+ * is dropped and reloaded on next use. Due dates and deletions arrive after
+ * commit from events and only touch graphs that are loaded. Idle graphs are
+ * evicted, so memory follows the projects in use.</p>
+ */
+@Component
+@Slf4j
+public class DependencyGraph {
+
+    private final TaskDependencyRepository dependencyRepository;
+    private final TaskRepository taskRepository;
+    private final Cache<Long, ProjectSchedule> schedules;
+
+    public DependencyGraph(TaskDependencyRepository dependencyRepository,
+                           TaskRepository taskRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${taskbuddy.dependencies.max-projects:1000}") long maxProjects,
+                           @Value("${taskbuddy.dependencies.idle-timeout:30m}") Duration idleTimeout) {
+        this.dependencyRepository = dependencyRepository;
+        this.taskRepository = taskRepository;
+        this.schedules = Caffeine.newBuilder()
+            .maximumSize(maxProjects)
+            .expireAfterAccess(idleTimeout)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, schedules, "dependencyGraph");
+    }
+
+    /** The project's schedule, loading it if needed. */
+    public ProjectSchedule schedule(Long projectId) {
+        return schedules.get(projectId, this::load);
+    }
+
+    /**
+     * Record a link stored by the current transaction.
+     */
+    public void linkAdded(Long projectId, Long blockerId, LocalDate blockerDue, Long blockedId, LocalDate blockedDue) {
+        dropOnRollback(projectId);
+        schedule(projectId).addLink(blockerId, blockerDue, blockedId, blockedDue);
+    }
+
+    /**
+     * Record a link deleted by the current transaction.
+     */
+    public void linkRemoved(Long projectId, Long blockerId, Long blockedId) {
+        dropOnRollback(projectId);
+        schedule(projectId).removeLink(blockerId, blockedId);
+    }
+
+    /** Re-read a committed due date; no-op unless the project's graph is loaded. */
+    public void dueDateChanged(Long projectId, Long taskId) {
+        ifLoaded(projectId, schedule -> taskRepository.findDueDates(List.of(taskId))
+            .forEach(due -> schedule.setDueDate(taskId, due.getDueDate())));
+    }
+
+    public void taskDeleted(Long projectId, Long taskId) {
+        ifLoaded(projectId, schedule -> schedule.removeTask(taskId));
+    }
+
+    public void projectDeleted(Long projectId) {
+        schedules.invalidate(projectId);
+    }
+
+    private void ifLoaded(Long projectId, Consumer<ProjectSchedule> change) {
+        ProjectSchedule schedule = schedules.getIfPresent(projectId);
+        if (schedule != null) {
+            change.accept(schedule);
+        }
+    }
+
+    private void dropOnRollback(Long projectId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        schedules.invalidate(projectId);
+                    }
+                }
+            });
+        }
+    }
+
+    private ProjectSchedule load(Long projectId) {
+        List<TaskDependency> links = dependencyRepository.findByProjectId(projectId);
+        Set<Long> taskIds = new HashSet<>();
+        for (TaskDependency link : links) {
+            taskIds.add(link.getBlockerTaskId());
+            taskIds.add(link.getBlockedTaskId());
+        }
+        Map<Long, LocalDate> dueDates = new HashMap<>();
+        if (!taskIds.isEmpty()) {
+            for (TaskDue due : taskRepository.findDueDates(taskIds)) {
+                dueDates.put(due.getId(), due.getDueDate());
+            }
+        }
+        ProjectSchedule schedule = new ProjectSchedule(projectId);
+        schedule.load(links.stream()
+            .map(link -> new ProjectSchedule.Link(link.getBlockerTaskId(), dueDates.get(link.getBlockerTaskId()),
+                link.getBlockedTaskId(), dueDates.get(link.getBlockedTaskId())))
+            .toList());
+        log.debug("Loaded dependency graph of project {}: {} links, {} tasks", projectId, links.size(), schedule.size());
+        return schedule;
+    }
+}
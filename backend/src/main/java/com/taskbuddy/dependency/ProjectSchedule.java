@@ -0,0 +1,318 @@
+package com.taskbuddy.dependency;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The dependency graph of one project, with each linked task's earliest finish.
+ *
+ * <p>Tasks carry no duration estimate, so a task can finish on its due date,
+ * or on the day its last blocker finishes if that is later. The blocker that
+ * sets a task's date is its <em>driver</em>; following drivers back from the
+ * task that finishes last gives the critical path.</p>
+ *
+ * <p>Only tasks with at least one link are held. A change re-evaluates just
+ * the tasks downstream of it, in topological order, and stops wherever a
+ * task's date and driver come out unchanged. All methods are synchronized on
+ * the schedule; a project's schedule is small enough that readers never wait
+ * long.</p>
+ */
+public final class ProjectSchedule {
+
+    /** A linked task as currently scheduled. */
+    public record Entry(Long taskId, LocalDate dueDate, LocalDate earliestFinish,
+                        List<Long> blockedBy, List<Long> blocks) {
+
+        /** Pushed past its own due date by a blocker. */
+        public boolean late() {
+            return dueDate != null && earliestFinish != null && earliestFinish.isAfter(dueDate);
+        }
+    }
+
+    private static final class Node {
+        final Long id;
+        LocalDate dueDate;
+        LocalDate earliestFinish;
+        Node driver;
+        final Set<Node> blockers = new LinkedHashSet<>();
+        final Set<Node> blocks = new LinkedHashSet<>();
+
+        Node(Long id, LocalDate dueDate) {
+            this.id = id;
+            this.dueDate = dueDate;
+        }
+    }
+
+    private final Long projectId;
+    private final Map<Long, Node> nodes = new HashMap<>();
+    // derived from the whole graph; rebuilt on the first read after a change
+    private List<Long> criticalPath;
+
+    ProjectSchedule(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public Long projectId() {
+        return projectId;
+    }
+
+    /**
+     * Whether linking {@code blockerId -> blockedId} would close a cycle, i.e.
+     * the blocker already (transitively) waits for the blocked task.
+     */
+    public synchronized boolean wouldCreateCycle(Long blockerId, Long blockedId) {
+        if (blockerId.equals(blockedId)) {
+            return true;
+        }
+        Node start = nodes.get(blockedId);
+        Node target = nodes.get(blockerId);
+        if (start == null || target == null) {
+            return false;
+        }
+        Set<Node> seen = new HashSet<>();
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(start);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            if (node == target) {
+                return true;
+            }
+            for (Node next : node.blocks) {
+                if (seen.add(next)) {
+                    stack.push(next);
+                }
+            }
+        }
+        return false;
+    }
+
+    public synchronized void addLink(Long blockerId, LocalDate blockerDue, Long blockedId, LocalDate blockedDue) {
+        Node blocker = node(blockerId, blockerDue);
+        Node blocked = node(blockedId, blockedDue);
+        if (blocker.blocks.add(blocked)) {
+            blocked.blockers.add(blocker);
+            propagate(List.of(blocker, blocked));
+        }
+    }
+
+    public synchronized void removeLink(Long blockerId, Long blockedId) {
+        Node blocker = nodes.get(blockerId);
+        Node blocked = nodes.get(blockedId);
+        if (blocker == null || blocked == null || !blocker.blocks.remove(blocked)) {
+            return;
+        }
+        blocked.blockers.remove(blocker);
+        dropIfUnlinked(blocker);
+        dropIfUnlinked(blocked);
+        if (nodes.containsKey(blockedId)) {
+            propagate(List.of(blocked));
+        } else {
+            criticalPath = null;
+        }
+    }
+
+    /** A task's due date changed; ignored for tasks without links. */
+    public synchronized void setDueDate(Long taskId, LocalDate dueDate) {
+        Node node = nodes.get(taskId);
+        if (node != null && !Objects.equals(node.dueDate, dueDate)) {
+            node.dueDate = dueDate;
+            propagate(List.of(node));
+        }
+    }
+
+    /** A task was deleted together with its links. */
+    public synchronized void removeTask(Long taskId) {
+        Node node = nodes.remove(taskId);
+        if (node == null) {
+            return;
+        }
+        List<Node> downstream = new ArrayList<>(node.blocks);
+        for (Node blocker : node.blockers) {
+            blocker.blocks.remove(node);
+            dropIfUnlinked(blocker);
+        }
+        for (Node blocked : downstream) {
+            blocked.blockers.remove(node);
+            dropIfUnlinked(blocked);
+        }
+        downstream.removeIf(blocked -> !nodes.containsKey(blocked.id));
+        propagate(downstream);
+    }
+
+    /** The task's schedule, or null if it has no links. */
+    public synchronized Entry entry(Long taskId) {
+        Node node = nodes.get(taskId);
+        return node != null ? toEntry(node) : null;
+    }
+
+    /** Tasks whose blockers push them past their due date. */
+    public synchronized List<Entry> lateEntries() {
+        List<Entry> late = new ArrayList<>();
+        for (Node node : nodes.values()) {
+            Entry entry = toEntry(node);
+            if (entry.late()) {
+                late.add(entry);
+            }
+        }
+        return late;
+    }
+
+    /**
+     * The chain of tasks that sets the project's latest finish, first blocker
+     * first; empty when no linked task has a date.
+     */
+    public synchronized List<Entry> criticalPath() {
+        if (criticalPath == null) {
+            criticalPath = computeCriticalPath();
+        }
+        return criticalPath.stream().map(id -> toEntry(nodes.get(id))).toList();
+    }
+
+    public synchronized int size() {
+        return nodes.size();
+    }
+
+    // bulk load: add every stored link, then schedule the whole graph once
+    synchronized void load(Collection<Link> links) {
+        for (Link link : links) {
+            Node blocker = node(link.blockerId(), link.blockerDue());
+            Node blocked = node(link.blockedId(), link.blockedDue());
+            blocker.blocks.add(blocked);
+            blocked.blockers.add(blocker);
+        }
+        propagate(List.copyOf(nodes.values()));
+    }
+
+    record Link(Long blockerId, LocalDate blockerDue, Long blockedId, LocalDate blockedDue) {
+    }
+
+    private Node node(Long id, LocalDate dueDate) {
+        return nodes.computeIfAbsent(id, key -> new Node(key, dueDate));
+    }
+
+    private void dropIfUnlinked(Node node) {
+        if (node.blockers.isEmpty() && node.blocks.isEmpty()) {
+            nodes.remove(node.id);
+        }
+    }
+
+    /**
+     * Re-evaluate the tasks downstream of {@code changed}. Each affected task
+     * is visited once, after all of its affected blockers; it is recomputed only
+     * if one of them changed, so an unchanged result cuts the propagation off.
+     */
+    private void propagate(Collection<Node> changed) {
+        criticalPath = null;
+        Set<Node> affected = new HashSet<>();
+        Deque<Node> stack = new ArrayDeque<>(changed);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            if (affected.add(node)) {
+                stack.addAll(node.blocks);
+            }
+        }
+
+        Map<Node, Integer> waitingFor = new HashMap<>();
+        Deque<Node> ready = new ArrayDeque<>();
+        for (Node node : affected) {
+            int count = 0;
+            for (Node blocker : node.blockers) {
+                if (affected.contains(blocker)) {
+                    count++;
+                }
+            }
+            waitingFor.put(node, count);
+            if (count == 0) {
+                ready.add(node);
+            }
+        }
+
+        Set<Node> dirty = new HashSet<>(changed);
+        while (!ready.isEmpty()) {
+            Node node = ready.poll();
+            if (dirty.contains(node) && recompute(node)) {
+                dirty.addAll(node.blocks);
+            }
+            for (Node next : node.blocks) {
+                if (waitingFor.merge(next, -1, Integer::sum) == 0) {
+                    ready.add(next);
+                }
+            }
+        }
+        // nodes never reaching zero would sit on a cycle, which links are checked against; they keep their dates
+    }
+
+    private static boolean recompute(Node node) {
+        Node driver = null;
+        LocalDate latestBlocker = null;
+        for (Node blocker : node.blockers) {
+            if (blocker.earliestFinish != null
+                    && (latestBlocker == null || blocker.earliestFinish.isAfter(latestBlocker))) {
+                latestBlocker = blocker.earliestFinish;
+                driver = blocker;
+            }
+        }
+        LocalDate finish = latestBlocker;
+        if (node.dueDate != null && (latestBlocker == null || node.dueDate.isAfter(latestBlocker))) {
+            // finishes on its own date: whatever blocks it has slack
+            finish = node.dueDate;
+            driver = null;
+        }
+        boolean changed = !Objects.equals(finish, node.earliestFinish) || driver != node.driver;
+        node.earliestFinish = finish;
+        node.driver = driver;
+        return changed;
+    }
+
+    private List<Long> computeCriticalPath() {
+        Map<Node, Integer> depth = new HashMap<>();
+        Node end = null;
+        for (Node node : nodes.values()) {
+            if (node.earliestFinish == null) {
+                continue;
+            }
+            int cmp = end == null ? 1 : node.earliestFinish.compareTo(end.earliestFinish);
+            if (cmp > 0 || (cmp == 0 && depth(node, depth) > depth(end, depth))) {
+                end = node;
+            }
+        }
+        List<Long> path = new ArrayList<>();
+        for (Node node = end; node != null; node = node.driver) {
+            path.add(node.id);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    // length of the driver chain ending at node, memoized for one critical path computation
+    private static int depth(Node node, Map<Node, Integer> memo) {
+        List<Node> chain = new ArrayList<>();
+        Node current = node;
+        while (current != null && !memo.containsKey(current)) {
+            chain.add(current);
+            current = current.driver;
+        }
+        int length = current != null ? memo.get(current) : 0;
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            memo.put(chain.get(i), ++length);
+        }
+        return memo.get(node);
+    }
+
+    private static Entry toEntry(Node node) {
+        return new Entry(node.id, node.dueDate, node.earliestFinish,
+            node.blockers.stream().map(n -> n.id).toList(),
+            node.blocks.stream().map(n -> n.id).toList());
+    }
+}
@@ -0,0 +1,20 @@
+package com.taskbuddy.dto;
+
+import lombok.*;
+import com.taskbuddy.enums.TaskStatus;
+
+import java.util.List;
+
+/**
+ * One board column: the column's total task count, a page of its cards, and an
+ * opaque cursor for the next page ({@code null} on the last page).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardColumnDto {
+    private TaskStatus status;
+    private long count;
+    private List<TaskDto> cards;
+    private String nextCursor;
+}
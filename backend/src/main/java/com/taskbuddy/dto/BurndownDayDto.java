@@ -0,0 +1,18 @@
+package com.taskbuddy.dto;
+
+import lombok.*;
+import java.time.LocalDate;
+
+/**
+ * Task counts of a project at the end of one day; {@code open} is PENDING plus ACCEPTED.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BurndownDayDto {
+    private LocalDate day;
+    private long open;
+    private long inProgress;
+    private long completed;
+    private long rejected;
+}
@@ -0,0 +1,19 @@
+package com.taskbuddy.dto;
+
+import lombok.*;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The chain of dependent tasks that decides when a project can finish, first
+ * blocker first, plus every task its blockers push past its due date.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CriticalPathDto {
+    private Long projectId;
+    private LocalDate projectedFinish;
+    private List<TaskScheduleDto> path;
+    private List<TaskScheduleDto> lateTasks;
+}
@@ -0,0 +1,18 @@
+package com.taskbuddy.dto;
+
+import lombok.*;
+
+/**
+ * Lead or cycle time of the tasks completed in a period, in hours. Percentiles
+ * come from logarithmic buckets and are accurate to about 19%; the mean is exact.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DurationStatsDto {
+    private long count;
+    private double meanHours;
+    private double p50Hours;
+    private double p85Hours;
+    private double p95Hours;
+}
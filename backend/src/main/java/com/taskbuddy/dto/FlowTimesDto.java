@@ -0,0 +1,17 @@
+package com.taskbuddy.dto;
+
+import lombok.*;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlowTimesDto {
+    private Long projectId;
+    private LocalDate from;
+    private LocalDate to;
+    // creation to completion
+    private DurationStatsDto leadTime;
+    // first IN_PROGRESS to completion
+    private DurationStatsDto cycleTime;
+}
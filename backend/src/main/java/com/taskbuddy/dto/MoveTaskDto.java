@@ -0,0 +1,17 @@
+package com.taskbuddy.dto;
+
+import lombok.*;
+import com.taskbuddy.enums.TaskStatus;
+import jakarta.validation.constraints.Positive;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MoveTaskDto {
+    // Target column; null keeps the current status
+    private TaskStatus status;
+
+    // Card to place the task right after; null moves it to the top of the column
+    @Positive(message = "Task ID must be a positive number")
+    private Long afterTaskId;
+}
@@ -24,6 +24,9 @@ public class NotificationDto {
     
     private boolean read;
     private LocalDateTime createdAt;
+
+    // Outbox delivery id; identical on re-delivery so clients can drop duplicates
+    private String deliveryId;
     
     public Long getId() {
         return id;
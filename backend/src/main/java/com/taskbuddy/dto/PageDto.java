@@ -0,0 +1,26 @@
+package com.taskbuddy.dto;
+
+import lombok.*;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of results. There is no total count: {@code hasNext} says whether
+ * another page exists, which keeps paged queries to a single bounded scan.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageDto<T> {
+    private List<T> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+
+    public static <E, T> PageDto<T> of(Slice<E> slice, Function<E, T> mapper) {
+        return new PageDto<>(slice.getContent().stream().map(mapper).toList(),
+            slice.getNumber(), slice.getSize(), slice.hasNext());
+    }
+}
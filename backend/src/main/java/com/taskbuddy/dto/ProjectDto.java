@@ -2,6 +2,8 @@ package com.taskbuddy.dto;
 
 import lombok.Data;
 import jakarta.validation.constraints.*;
+import com.taskbuddy.enums.TaskStatus;
+import java.util.Map;
 
 @Data
 public class ProjectDto {
@@ -23,6 +25,8 @@ public class ProjectDto {
     private String createdAt;
     private String updatedAt;
     private int taskCount;
+    private Map<TaskStatus, Long> statusCounts; // tasks per status, for progress bars
     private int memberCount;
+    private Long version;
     
 }
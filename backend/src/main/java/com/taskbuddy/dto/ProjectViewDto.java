@@ -0,0 +1,18 @@
+package com.taskbuddy.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Everything the project details page needs in one response.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectViewDto {
+    private ProjectDto project;
+    private List<ProjectMemberDto> members;
+    private List<TaskDto> tasks;
+    private String myRole; // caller's role in the project, null if not a member
+}
@@ -0,0 +1,15 @@
+package com.taskbuddy.dto;
+
+import lombok.*;
+import com.taskbuddy.enums.SearchType;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuickSwitchItemDto {
+    // PROJECT or TASK
+    private SearchType type;
+    private Long id;
+    private Long projectId;
+    private String name;
+}
@@ -0,0 +1,22 @@
+package com.taskbuddy.dto;
+
+import lombok.*;
+import com.taskbuddy.enums.SearchType;
+
+/**
+ * One search result. {@code title} and {@code snippet} are HTML-escaped, with
+ * matched terms wrapped in {@code <mark>} tags.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHitDto {
+    private SearchType type;
+    private Long id;
+    private Long projectId;
+    // the task a comment belongs to (null for project comments); the task itself for tasks
+    private Long taskId;
+    private String title;
+    private String snippet;
+    private float score;
+}
@@ -0,0 +1,24 @@
+package com.taskbuddy.dto;
+
+import lombok.*;
+import com.taskbuddy.enums.TaskField;
+import java.time.LocalDateTime;
+
+/**
+ * One entry of a task's history. For {@code ASSIGNEE} the values are usernames;
+ * for {@code TASK} a missing old value means created, a missing new value deleted.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskActivityDto {
+    private Long id;
+    private Long taskId;
+    private Long projectId;
+    private Long actorId;
+    private String actorName;
+    private TaskField field;
+    private String oldValue;
+    private String newValue;
+    private LocalDateTime createdAt;
+}
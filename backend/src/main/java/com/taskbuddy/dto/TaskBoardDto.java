@@ -0,0 +1,16 @@
+package com.taskbuddy.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * A project's Kanban board: one column per task status, in status order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBoardDto {
+    private Long projectId;
+    private List<BoardColumnDto> columns;
+}
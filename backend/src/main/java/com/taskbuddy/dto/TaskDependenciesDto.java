@@ -0,0 +1,16 @@
+package com.taskbuddy.dto;
+
+import lombok.*;
+import java.util.List;
+
+/**
+ * A task's direct blockers and the tasks it blocks, each with its schedule.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDependenciesDto {
+    private TaskScheduleDto task;
+    private List<TaskScheduleDto> blockedBy;
+    private List<TaskScheduleDto> blocks;
+}
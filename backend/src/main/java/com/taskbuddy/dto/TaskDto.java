@@ -37,4 +37,5 @@ public class TaskDto {
     private String projectName;
     private String createdAt;
     private String updatedAt;
+    private Long version;
 }
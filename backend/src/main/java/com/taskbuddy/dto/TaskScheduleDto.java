@@ -0,0 +1,21 @@
+package com.taskbuddy.dto;
+
+import lombok.*;
+import com.taskbuddy.enums.TaskStatus;
+import java.time.LocalDate;
+
+/**
+ * A task with the earliest date it can finish given its blockers. {@code late}
+ * means a blocker finishes after the task's own due date.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskScheduleDto {
+    private Long taskId;
+    private String title;
+    private TaskStatus status;
+    private LocalDate dueDate;
+    private LocalDate earliestFinish;
+    private boolean late;
+}
@@ -5,7 +5,12 @@ import lombok.*;
 import com.taskbuddy.enums.NotificationType;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+    // unread / per-recipient lookups
+    @Index(name = "idx_notifications_recipient_read", columnList = "recipient_id, is_read"),
+    // retention purge scans
+    @Index(name = "idx_notifications_type_read_created", columnList = "type, is_read, created_at")
+})
 @Data
 @EqualsAndHashCode(callSuper = false)
 @NoArgsConstructor
@@ -0,0 +1,36 @@
+package com.taskbuddy.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * A pending real-time delivery, written in the same transaction as the row it
+ * announces and removed by the relay once pushed. {@code deliveryId} travels
+ * with the payload so clients can drop duplicates of an at-least-once delivery.
+ */
+@Entity
+@Table(name = "outbox_messages",
+       indexes = @Index(name = "idx_outbox_available", columnList = "available_at, id"))
+@Data
+@EqualsAndHashCode(callSuper = false)
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxMessage extends BaseEntity {
+    @Column(name = "delivery_id", nullable = false, unique = true, length = 36)
+    private String deliveryId;
+
+    @Column(name = "recipient_id", nullable = false)
+    private Long recipientId;
+
+    // serialized NotificationDto
+    @Column(nullable = false, length = 2000)
+    private String payload;
+
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    // not picked up by the relay before this time (retry backoff)
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt = LocalDateTime.now();
+}
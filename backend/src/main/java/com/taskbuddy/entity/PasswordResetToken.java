@@ -5,7 +5,11 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "password_reset_tokens")
+@Table(name = "password_reset_tokens",
+       // one active token per email (the reset request upserts it); also serves the OTP lookup
+       uniqueConstraints = @UniqueConstraint(name = "uk_password_reset_tokens_email", columnNames = "email"),
+       // janitor scan for expired tokens
+       indexes = @Index(name = "idx_password_reset_tokens_expiry", columnList = "expiry_time"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,33 @@
+package com.taskbuddy.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import com.taskbuddy.enums.TaskStatus;
+import java.time.LocalDate;
+
+/**
+ * Net change in the number of a project's tasks in one status on one day.
+ * The running sum over days gives the count per status on any day (burndown).
+ * Rows are upserted by {@link com.taskbuddy.analytics.FlowRollups}.
+ */
+@Entity
+@Table(name = "project_flow_daily", uniqueConstraints =
+    @UniqueConstraint(name = "uk_project_flow_daily", columnNames = {"project_id", "day", "status"}))
+@Data
+@EqualsAndHashCode(callSuper = false)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectFlowDaily extends BaseEntity {
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private TaskStatus status;
+
+    @Column(nullable = false)
+    private long delta;
+}
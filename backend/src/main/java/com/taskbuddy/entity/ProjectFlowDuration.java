@@ -0,0 +1,40 @@
+package com.taskbuddy.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import com.taskbuddy.enums.FlowMetric;
+import java.time.LocalDate;
+
+/**
+ * Histogram of lead or cycle times of the tasks a project completed on one day.
+ * Buckets are logarithmic (see {@link com.taskbuddy.analytics.DurationHistogram});
+ * the total keeps the exact mean. Rows are upserted by
+ * {@link com.taskbuddy.analytics.FlowRollups}.
+ */
+@Entity
+@Table(name = "project_flow_durations", uniqueConstraints =
+    @UniqueConstraint(name = "uk_project_flow_durations", columnNames = {"project_id", "day", "metric", "bucket"}))
+@Data
+@EqualsAndHashCode(callSuper = false)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectFlowDuration extends BaseEntity {
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16, nullable = false)
+    private FlowMetric metric;
+
+    @Column(nullable = false)
+    private int bucket;
+
+    @Column(name = "task_count", nullable = false)
+    private long count;
+
+    @Column(name = "total_seconds", nullable = false)
+    private long totalSeconds;
+}
@@ -3,9 +3,13 @@ package com.taskbuddy.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import com.taskbuddy.enums.ProjectRole;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "project_members")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @EqualsAndHashCode(callSuper = false)
 @NoArgsConstructor
@@ -0,0 +1,29 @@
+package com.taskbuddy.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import com.taskbuddy.enums.TaskStatus;
+
+/**
+ * Number of a project's tasks currently in one status, kept in step with
+ * {@code tasks} by {@link com.taskbuddy.counter.ProjectTaskCounters} so
+ * project lists can show progress without counting tasks.
+ */
+@Entity
+@Table(name = "project_task_counters", uniqueConstraints =
+    @UniqueConstraint(name = "uk_project_task_counters", columnNames = {"project_id", "status"}))
+@Data
+@EqualsAndHashCode(callSuper = false)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectTaskCounter extends BaseEntity {
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private TaskStatus status;
+
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+}
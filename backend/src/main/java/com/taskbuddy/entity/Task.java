@@ -7,10 +7,20 @@ import com.taskbuddy.enums.TaskPriority;
 import java.util.List;
 import java.util.ArrayList;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+    // due-date range scans per assignee and per project
+    @Index(name = "idx_tasks_assignee_due", columnList = "assigned_user_id, due_date"),
+    @Index(name = "idx_tasks_project_due", columnList = "project_id, due_date"),
+    // due-date reminders load a sliding window of all tasks in (due_date, id) order
+    @Index(name = "idx_tasks_due", columnList = "due_date, id"),
+    // board columns: per-status counts and keyset paging in rank order
+    @Index(name = "idx_tasks_project_status_rank", columnList = "project_id, status, board_rank")
+})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -36,6 +46,25 @@ public class Task extends BaseEntity {
     @Column(name = "due_date")
     private LocalDate dueDate;
 
+    // Position within its board column, see FractionalRank ("rank" is reserved in MySQL).
+    // Binary collation: ranks are case-sensitive, which the default *_ai_ci collation is not
+    @Column(name = "board_rank", length = 64, columnDefinition = "varchar(64) CHARACTER SET ascii COLLATE ascii_bin")
+    private String rank;
+
+    // First time the task went IN_PROGRESS; start of its cycle time
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    // Due date the assignee was last reminded of; a new due date re-arms the reminder
+    @Column(name = "reminder_sent_for")
+    private LocalDate reminderSentFor;
+
+    // Optimistic lock; also exposed to clients as the ETag
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assigned_user_id")
     private User assignedUser;
@@ -0,0 +1,43 @@
+package com.taskbuddy.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import com.taskbuddy.enums.TaskField;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Append-only history of task changes, one row per changed field. Rows are
+ * inserted in batches after commit and never updated. Ids are plain columns,
+ * not associations, so the history of deleted tasks and users survives.
+ */
+@Entity
+@Immutable
+@Table(name = "task_activity", indexes = {
+    @Index(name = "idx_task_activity_task", columnList = "task_id, id"),
+    @Index(name = "idx_task_activity_project", columnList = "project_id, id")
+})
+@Data
+@EqualsAndHashCode(callSuper = false)
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskActivity extends BaseEntity {
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "actor_id")
+    private Long actorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private TaskField field;
+
+    // assignee changes hold user ids
+    @Column(name = "old_value", length = 1000)
+    private String oldValue;
+
+    @Column(name = "new_value", length = 1000)
+    private String newValue;
+}
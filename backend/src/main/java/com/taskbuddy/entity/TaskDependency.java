@@ -0,0 +1,32 @@
+package com.taskbuddy.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * "Blocker must finish before blocked": a directed edge between two tasks of
+ * the same project. The links of a project never form a cycle. Ids are plain
+ * columns so tasks can still be removed with bulk deletes, which clear their
+ * links in the same transaction.
+ */
+@Entity
+@Table(name = "task_dependencies",
+    uniqueConstraints = @UniqueConstraint(name = "uk_task_dependencies", columnNames = {"blocker_task_id", "blocked_task_id"}),
+    indexes = {
+        @Index(name = "idx_task_dependencies_blocked", columnList = "blocked_task_id"),
+        @Index(name = "idx_task_dependencies_project", columnList = "project_id")
+    })
+@Data
+@EqualsAndHashCode(callSuper = false)
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDependency extends BaseEntity {
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "blocker_task_id", nullable = false)
+    private Long blockerTaskId;
+
+    @Column(name = "blocked_task_id", nullable = false)
+    private Long blockedTaskId;
+}
@@ -0,0 +1,10 @@
+package com.taskbuddy.enums;
+
+/**
+ * Due-date windows for open (not completed or rejected) tasks.
+ */
+public enum DueWindow {
+    OVERDUE,
+    TODAY,
+    UPCOMING
+}
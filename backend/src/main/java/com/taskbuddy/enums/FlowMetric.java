@@ -0,0 +1,10 @@
+package com.taskbuddy.enums;
+
+/**
+ * Durations tracked per completed task: lead time runs from creation,
+ * cycle time from the first move to IN_PROGRESS.
+ */
+public enum FlowMetric {
+    LEAD_TIME,
+    CYCLE_TIME
+}
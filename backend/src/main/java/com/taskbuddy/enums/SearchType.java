@@ -0,0 +1,7 @@
+package com.taskbuddy.enums;
+
+public enum SearchType {
+    TASK,
+    PROJECT,
+    COMMENT
+}
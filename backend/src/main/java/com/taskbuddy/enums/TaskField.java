@@ -0,0 +1,15 @@
+package com.taskbuddy.enums;
+
+/**
+ * What a task activity entry records. {@code TASK} marks creation (no old value)
+ * and deletion (no new value); the others are field-level changes.
+ */
+public enum TaskField {
+    TASK,
+    TITLE,
+    DESCRIPTION,
+    PRIORITY,
+    DUE_DATE,
+    STATUS,
+    ASSIGNEE
+}
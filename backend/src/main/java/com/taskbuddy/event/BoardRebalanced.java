@@ -0,0 +1,7 @@
+package com.taskbuddy.event;
+
+/**
+ * Board ranks of a project were rewritten; card order is unchanged.
+ */
+public record BoardRebalanced(Long projectId) implements DomainEvent {
+}
@@ -0,0 +1,13 @@
+package com.taskbuddy.event;
+
+import java.util.Set;
+
+/**
+ * A comment was posted on a task ({@code taskId} set) or on the project itself.
+ *
+ * <p>{@code recipientIds} are the users to notify (assignee and/or manager, never the
+ * author), de-duplicated.</p>
+ */
+public record CommentAdded(Long projectId, Long commentId, Long taskId, String subject,
+                           Long authorId, String authorName, Set<Long> recipientIds) implements DomainEvent {
+}
@@ -0,0 +1,7 @@
+package com.taskbuddy.event;
+
+/**
+ * The author deleted a comment.
+ */
+public record CommentDeleted(Long projectId, Long commentId, Long taskId, Long authorId) implements DomainEvent {
+}
@@ -0,0 +1,7 @@
+package com.taskbuddy.event;
+
+/**
+ * The author edited a comment.
+ */
+public record CommentEdited(Long projectId, Long commentId, Long taskId, Long authorId) implements DomainEvent {
+}
@@ -0,0 +1,18 @@
+package com.taskbuddy.event;
+
+/**
+ * Marker for domain events published by the services through Spring's
+ * {@link org.springframework.context.ApplicationEventPublisher}.
+ *
+ * <p>Events are immutable records carrying ids and the few display values
+ * consumers need, never entities, so listeners can run after the publishing
+ * transaction has committed and on other threads. Side effects (notifications,
+ * cache invalidation, ...) live in listeners rather than in the services.</p>
+ */
+public interface DomainEvent {
+
+    /**
+     * The project the change belongs to.
+     */
+    Long projectId();
+}
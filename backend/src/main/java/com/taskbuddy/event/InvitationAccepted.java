@@ -0,0 +1,8 @@
+package com.taskbuddy.event;
+
+/**
+ * An invited user accepted; a {@link MemberJoined} is published alongside.
+ */
+public record InvitationAccepted(Long projectId, Long invitationId, Long invitedUserId, String invitedUserName,
+                                 String projectName, Long invitedById) implements DomainEvent {
+}
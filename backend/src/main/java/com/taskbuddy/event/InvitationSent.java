@@ -0,0 +1,8 @@
+package com.taskbuddy.event;
+
+/**
+ * A manager invited a user to a project.
+ */
+public record InvitationSent(Long projectId, Long invitationId, Long invitedUserId, String invitedUserName,
+                             String invitedUserEmail, String projectName, String inviterName) implements DomainEvent {
+}
@@ -0,0 +1,7 @@
+package com.taskbuddy.event;
+
+/**
+ * A user became a member of a project (added by the manager or via invitation).
+ */
+public record MemberJoined(Long projectId, Long userId) implements DomainEvent {
+}
@@ -0,0 +1,7 @@
+package com.taskbuddy.event;
+
+/**
+ * A member was removed from a project.
+ */
+public record MemberRemoved(Long projectId, Long userId) implements DomainEvent {
+}
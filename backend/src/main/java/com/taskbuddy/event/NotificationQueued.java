@@ -0,0 +1,8 @@
+package com.taskbuddy.event;
+
+/**
+ * A notification was written to the outbox; wakes the relay once the
+ * transaction commits instead of waiting for its next poll.
+ */
+public record NotificationQueued(Long recipientId) {
+}
@@ -0,0 +1,7 @@
+package com.taskbuddy.event;
+
+/**
+ * A project was created; its manager is its first member.
+ */
+public record ProjectCreated(Long projectId, String name, Long managerId) implements DomainEvent {
+}
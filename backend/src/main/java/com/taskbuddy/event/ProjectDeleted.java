@@ -0,0 +1,7 @@
+package com.taskbuddy.event;
+
+/**
+ * A project was deleted.
+ */
+public record ProjectDeleted(Long projectId, Long actorId) implements DomainEvent {
+}
@@ -0,0 +1,7 @@
+package com.taskbuddy.event;
+
+/**
+ * Project details or status changed.
+ */
+public record ProjectUpdated(Long projectId, Long actorId) implements DomainEvent {
+}
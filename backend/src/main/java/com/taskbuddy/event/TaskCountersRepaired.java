@@ -0,0 +1,7 @@
+package com.taskbuddy.event;
+
+/**
+ * The per-status task counters of a project were corrected; tasks are unchanged.
+ */
+public record TaskCountersRepaired(Long projectId) implements DomainEvent {
+}
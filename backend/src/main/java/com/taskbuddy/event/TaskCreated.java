@@ -0,0 +1,7 @@
+package com.taskbuddy.event;
+
+/**
+ * A task was created, optionally already assigned.
+ */
+public record TaskCreated(Long projectId, Long taskId, String title, String projectName, Long assigneeId, Long actorId) implements DomainEvent {
+}
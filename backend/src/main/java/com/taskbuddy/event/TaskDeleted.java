@@ -0,0 +1,9 @@
+package com.taskbuddy.event;
+
+import com.taskbuddy.enums.TaskStatus;
+
+/**
+ * A task and its comments were deleted.
+ */
+public record TaskDeleted(Long projectId, Long taskId, String title, TaskStatus status, Long actorId) implements DomainEvent {
+}
@@ -0,0 +1,7 @@
+package com.taskbuddy.event;
+
+/**
+ * A task was marked as blocked by another task of the same project.
+ */
+public record TaskDependencyAdded(Long projectId, Long taskId, Long blockerTaskId, Long actorId) implements DomainEvent {
+}
@@ -0,0 +1,7 @@
+package com.taskbuddy.event;
+
+/**
+ * A task is no longer blocked by another task.
+ */
+public record TaskDependencyRemoved(Long projectId, Long taskId, Long blockerTaskId, Long actorId) implements DomainEvent {
+}
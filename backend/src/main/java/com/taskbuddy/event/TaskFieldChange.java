@@ -0,0 +1,9 @@
+package com.taskbuddy.event;
+
+import com.taskbuddy.enums.TaskField;
+
+/**
+ * One changed field of a task, with values in their string form.
+ */
+public record TaskFieldChange(TaskField field, String oldValue, String newValue) {
+}
@@ -0,0 +1,7 @@
+package com.taskbuddy.event;
+
+/**
+ * A task was dragged to another position within its board column.
+ */
+public record TaskMoved(Long projectId, Long taskId, Long actorId) implements DomainEvent {
+}
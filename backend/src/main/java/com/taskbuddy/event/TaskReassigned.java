@@ -0,0 +1,11 @@
+package com.taskbuddy.event;
+
+import com.taskbuddy.enums.TaskStatus;
+
+/**
+ * A task was handed to another project member (status is reset to PENDING).
+ */
+public record TaskReassigned(Long projectId, Long taskId, String title, String projectName,
+                             Long previousAssigneeId, Long newAssigneeId, TaskStatus previousStatus,
+                             Long actorId) implements DomainEvent {
+}
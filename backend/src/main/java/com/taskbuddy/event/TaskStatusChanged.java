@@ -0,0 +1,10 @@
+package com.taskbuddy.event;
+
+import com.taskbuddy.enums.TaskStatus;
+
+/**
+ * The assignee moved a task to another status.
+ */
+public record TaskStatusChanged(Long projectId, Long taskId, String title, TaskStatus oldStatus, TaskStatus newStatus,
+                                Long managerId, Long actorId) implements DomainEvent {
+}
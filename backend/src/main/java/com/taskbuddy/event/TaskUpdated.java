@@ -0,0 +1,9 @@
+package com.taskbuddy.event;
+
+import java.util.List;
+
+/**
+ * Title, description, priority or due date of a task changed.
+ */
+public record TaskUpdated(Long projectId, Long taskId, Long actorId, List<TaskFieldChange> changes) implements DomainEvent {
+}
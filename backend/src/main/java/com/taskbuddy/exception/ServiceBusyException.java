@@ -0,0 +1,10 @@
+package com.taskbuddy.exception;
+
+/**
+ * A bounded internal resource is saturated; the client should retry shortly.
+ */
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
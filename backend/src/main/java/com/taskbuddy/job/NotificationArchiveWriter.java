@@ -0,0 +1,81 @@
+package com.taskbuddy.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskbuddy.entity.Notification;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Appends purged notifications to one gzipped NDJSON file per purge run.
+ * The file is only created once there is something to write.
+ */
+class NotificationArchiveWriter implements Closeable {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+    private FileChannel channel;
+    private BufferedWriter writer;
+    private long written;
+
+    NotificationArchiveWriter(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    void append(List<Notification> notifications) throws IOException {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        if (writer == null) {
+            Files.createDirectories(file.getParent());
+            channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            // syncFlush: flush() pushes everything deflated so far, not just the buffered text
+            writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Channels.newOutputStream(channel), true),
+                StandardCharsets.UTF_8));
+        }
+        for (Notification n : notifications) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", n.getId());
+            row.put("recipientId", n.getRecipient().getId());
+            row.put("type", n.getType());
+            row.put("message", n.getMessage());
+            row.put("read", n.isRead());
+            row.put("createdAt", n.getCreatedAt());
+            writer.write(objectMapper.writeValueAsString(row));
+            writer.write('\n');
+        }
+        // make the chunk durable before its rows are deleted
+        writer.flush();
+        channel.force(false);
+        written += notifications.size();
+    }
+
+    Path file() {
+        return file;
+    }
+
+    long written() {
+        return written;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+}
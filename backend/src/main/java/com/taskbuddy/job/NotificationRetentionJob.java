@@ -0,0 +1,119 @@
+package com.taskbuddy.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskbuddy.config.NotificationRetentionProperties;
+import com.taskbuddy.entity.Notification;
+import com.taskbuddy.enums.NotificationType;
+import com.taskbuddy.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deletes notifications past their retention (see {@link NotificationRetentionProperties}).
+ *
+ * <p>Works in chunks of {@code batch-size} ids, each deleted in its own short
+ * transaction, with a pause in between, so the purge never holds long locks or
+ * a huge undo log. With archiving on, every chunk is written and flushed to the
+ * run's {@code notifications-<timestamp>.ndjson.gz} before it is deleted; if a
+ * delete fails after that, the rows may appear again in the next run's archive.</p>
+ */
+@Component
+@Slf4j
+public class NotificationRetentionJob {
+
+    private static final DateTimeFormatter FILE_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationRetentionProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong tableRows = new AtomicLong(-1);
+
+    public NotificationRetentionJob(NotificationRepository notificationRepository,
+                                    NotificationRetentionProperties properties,
+                                    ObjectMapper objectMapper,
+                                    MeterRegistry meterRegistry) {
+        this.notificationRepository = notificationRepository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        // COUNT(*) is not free on a large table: the gauge reports the value from
+        // the last refresh instead of querying on every scrape
+        Gauge.builder("taskbuddy.notifications.rows", tableRows, AtomicLong::get)
+            .description("Rows in the notifications table (refreshed periodically)")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${taskbuddy.notifications.retention.cron:0 30 3 * * *}")
+    public void purge() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Path archiveFile = Path.of(properties.getArchive().getDirectory())
+            .resolve("notifications-" + now.format(FILE_STAMP) + ".ndjson.gz");
+
+        long total = 0;
+        try (NotificationArchiveWriter archive = properties.getArchive().isEnabled()
+                ? new NotificationArchiveWriter(archiveFile, objectMapper) : null) {
+            for (NotificationType type : NotificationType.values()) {
+                total += purge(type, true, now.minus(properties.ttlFor(type)), archive);
+                total += purge(type, false, now.minus(properties.getUnreadTtl()), archive);
+            }
+            if (archive != null && archive.written() > 0) {
+                log.info("Archived {} notifications to {}", archive.written(), archive.file());
+            }
+        } catch (IOException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            log.error("Notification purge aborted after {} rows: {}", total, e.getMessage(), e);
+        }
+        log.info("Notification retention purged {} rows", total);
+        refreshRowCount();
+    }
+
+    @Scheduled(fixedDelayString = "${taskbuddy.notifications.retention.count-refresh-ms:900000}", initialDelay = 60_000)
+    public void refreshRowCount() {
+        tableRows.set(notificationRepository.count());
+    }
+
+    private long purge(NotificationType type, boolean read, LocalDateTime cutoff, NotificationArchiveWriter archive)
+            throws IOException, InterruptedException {
+        Counter purged = Counter.builder("taskbuddy.notifications.purged")
+            .description("Notifications deleted by the retention job")
+            .tag("type", type.name())
+            .register(meterRegistry);
+        long deleted = 0;
+        while (true) {
+            List<Long> ids = notificationRepository.findIdsForPurge(type, read, cutoff, Limit.of(properties.getBatchSize()));
+            if (ids.isEmpty()) {
+                return deleted;
+            }
+            if (archive != null) {
+                List<Notification> rows = notificationRepository.findAllById(ids);
+                archive.append(rows);
+            }
+            notificationRepository.deleteAllByIdInBatch(ids);
+            deleted += ids.size();
+            purged.increment(ids.size());
+            if (ids.size() < properties.getBatchSize()) {
+                return deleted;
+            }
+            Thread.sleep(properties.getBatchPause().toMillis());
+        }
+    }
+}
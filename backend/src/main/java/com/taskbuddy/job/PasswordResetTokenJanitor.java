@@ -0,0 +1,46 @@
+package com.taskbuddy.job;
+
+import com.taskbuddy.repository.PasswordResetTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Removes used and expired password reset tokens in bounded batches, each
+ * deleted in its own short transaction.
+ */
+@Component
+@Slf4j
+public class PasswordResetTokenJanitor {
+
+    private final PasswordResetTokenRepository tokenRepository;
+    private final int batchSize;
+
+    public PasswordResetTokenJanitor(PasswordResetTokenRepository tokenRepository,
+                                     @Value("${taskbuddy.password-reset.janitor.batch-size:500}") int batchSize) {
+        this.tokenRepository = tokenRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${taskbuddy.password-reset.janitor.interval-ms:900000}", initialDelay = 60_000)
+    public void purge() {
+        LocalDateTime now = LocalDateTime.now();
+        long deleted = 0;
+        List<Long> ids;
+        do {
+            ids = tokenRepository.findIdsToPurge(now, Limit.of(batchSize));
+            if (!ids.isEmpty()) {
+                tokenRepository.deleteAllByIdInBatch(ids);
+                deleted += ids.size();
+            }
+        } while (ids.size() == batchSize);
+        if (deleted > 0) {
+            log.info("Removed {} used or expired password reset tokens", deleted);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.taskbuddy.job;
+
+import com.taskbuddy.counter.ProjectTaskCounters;
+import com.taskbuddy.counter.ProjectTaskCounters.Drift;
+import com.taskbuddy.event.TaskCountersRepaired;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Recounts tasks per project and status and corrects counters that drifted.
+ *
+ * <p>On startup every difference is corrected at once; this also fills the
+ * table the first time. While the application runs, a difference can simply be
+ * a transition that committed between the two halves of the recount, so a
+ * sweep only corrects drift it already saw, unchanged, on the previous sweep.</p>
+ */
+@Component
+@Slf4j
+public class ProjectTaskCounterRepairJob {
+
+    private final ProjectTaskCounters counters;
+    private final ApplicationEventPublisher eventPublisher;
+    private Set<Drift> previous = Set.of();
+
+    public ProjectTaskCounterRepairJob(ProjectTaskCounters counters, ApplicationEventPublisher eventPublisher) {
+        this.counters = counters;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void repairOnStartup() {
+        List<Drift> drift = counters.findDrift();
+        drift.forEach(this::correct);
+        if (!drift.isEmpty()) {
+            log.info("Corrected {} project task counters on startup", drift.size());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${taskbuddy.projects.counters.repair-interval-ms:900000}", initialDelay = 300_000)
+    public synchronized void repair() {
+        Set<Drift> current = new HashSet<>(counters.findDrift());
+        int corrected = 0;
+        for (Drift drift : current) {
+            if (previous.contains(drift)) {
+                correct(drift);
+                corrected++;
+            }
+        }
+        // corrected entries are gone next time; the rest must repeat to be trusted
+        current.removeIf(previous::contains);
+        previous = current;
+        if (corrected > 0) {
+            log.warn("Corrected {} drifted project task counters", corrected);
+        }
+    }
+
+    private void correct(Drift drift) {
+        log.debug("Project {} {} counter was {}, tasks say {}",
+            drift.projectId(), drift.status(), drift.counted(), drift.actual());
+        counters.adjust(drift.projectId(), drift.status(), drift.delta());
+        // cached project lists carry the counts
+        eventPublisher.publishEvent(new TaskCountersRepaired(drift.projectId()));
+    }
+}
@@ -0,0 +1,143 @@
+package com.taskbuddy.job;
+
+import com.taskbuddy.enums.TaskStatus;
+import com.taskbuddy.event.BoardRebalanced;
+import com.taskbuddy.rank.FractionalRank;
+import com.taskbuddy.repository.TaskRepository;
+import com.taskbuddy.repository.TaskRepository.ColumnKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rewrites the ranks of a board column to short, evenly spaced values.
+ *
+ * <p>Moves only ever write one row, so ranks slowly grow longer. Whoever writes
+ * a rank longer than {@code max-length} calls {@link #requestRebalance}; the
+ * column is then rebalanced in the background on the next sweep, in a single
+ * batched update under a lock on the column's rows. Columns nobody reorders are
+ * never touched. On startup, tasks created before ranks existed are ranked the
+ * same way.</p>
+ *
+ * <p>Ranks are case-sensitive. Tables created before {@code board_rank} had a
+ * binary collation are converted once on startup (ddl-auto=update does not alter
+ * existing columns), and every ranked column is then rebalanced, because the
+ * case-insensitive comparison may already have produced duplicate ranks.</p>
+ */
+@Component
+@Slf4j
+public class TaskRankRebalancer {
+
+    private static final String BINARY_COLLATION = "ascii_bin";
+
+    private record Column(Long projectId, TaskStatus status) {
+    }
+
+    private final TaskRepository taskRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxLength;
+    private final Set<Column> pending = ConcurrentHashMap.newKeySet();
+
+    public TaskRankRebalancer(TaskRepository taskRepository,
+                              JdbcTemplate jdbcTemplate,
+                              TransactionTemplate transactionTemplate,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${taskbuddy.board.rank.max-length:24}") int maxLength) {
+        this.taskRepository = taskRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Queue the column for rebalancing if {@code rank} has grown too long.
+     */
+    public void requestRebalance(Long projectId, TaskStatus status, String rank) {
+        if (rank.length() > maxLength) {
+            requestRebalance(projectId, status);
+        }
+    }
+
+    /**
+     * Queue the column for rebalancing unconditionally, e.g. when two tasks ended up with the same rank.
+     */
+    public void requestRebalance(Long projectId, TaskStatus status) {
+        pending.add(new Column(projectId, status));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rankLegacyTasks() {
+        List<ColumnKey> columns = migrateToBinaryCollation()
+            ? taskRepository.findColumnsWithRankedTasks()
+            : List.of();
+        for (ColumnKey key : columns) {
+            pending.add(new Column(key.getProjectId(), key.getStatus()));
+        }
+        for (ColumnKey key : taskRepository.findColumnsWithUnrankedTasks()) {
+            pending.add(new Column(key.getProjectId(), key.getStatus()));
+        }
+        rebalancePending();
+    }
+
+    // MySQL only; returns true if the column had to be converted
+    private boolean migrateToBinaryCollation() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        if (!"MySQL".equalsIgnoreCase(product)) {
+            return false;
+        }
+        String collation = jdbcTemplate.query("SELECT COLLATION_NAME FROM information_schema.COLUMNS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'tasks' AND COLUMN_NAME = 'board_rank'",
+            rs -> rs.next() ? rs.getString(1) : null);
+        if (collation == null || collation.equals(BINARY_COLLATION)) {
+            return false;
+        }
+        jdbcTemplate.execute("ALTER TABLE tasks MODIFY board_rank VARCHAR(64) CHARACTER SET ascii COLLATE " + BINARY_COLLATION);
+        log.info("Converted tasks.board_rank from {} to {}", collation, BINARY_COLLATION);
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${taskbuddy.board.rank.rebalance-interval-ms:30000}", initialDelay = 30_000)
+    public void rebalancePending() {
+        for (Column column : List.copyOf(pending)) {
+            pending.remove(column);
+            try {
+                int updated = rebalance(column);
+                eventPublisher.publishEvent(new BoardRebalanced(column.projectId()));
+                log.info("Rebalanced {} board ranks of project {} column {}", updated, column.projectId(), column.status());
+            } catch (RuntimeException e) {
+                log.warn("Rebalancing project {} column {} failed: {}", column.projectId(), column.status(), e.getMessage());
+            }
+        }
+    }
+
+    private int rebalance(Column column) {
+        Integer updated = transactionTemplate.execute(tx -> {
+            // locked until commit: a move committed before this read is seen, later ones wait
+            List<Long> ids = taskRepository.lockColumnIdsInRankOrder(column.projectId(), column.status().name());
+            List<String> ranks = FractionalRank.evenlySpaced(ids.size());
+            List<Object[]> rows = new ArrayList<>(ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                rows.add(new Object[] {ranks.get(i), ids.get(i)});
+            }
+            // ordering metadata only: the task version is deliberately left alone
+            jdbcTemplate.batchUpdate("UPDATE tasks SET board_rank = ? WHERE id = ?", rows);
+            return ids.size();
+        });
+        return updated != null ? updated : 0;
+    }
+}
@@ -0,0 +1,175 @@
+package com.taskbuddy.listener;
+
+import com.taskbuddy.enums.NotificationType;
+import com.taskbuddy.event.CommentAdded;
+import com.taskbuddy.service.NotificationService;
+import com.taskbuddy.service.NotificationService.CommentDigestItem;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Folds bursts of comment notifications into one notification per recipient.
+ *
+ * <p>Comments are buffered per (recipient, task or project, type).
+ * In {@code window} mode a buffer is flushed once its first comment is
+ * {@code window-ms} old, as a single "5 new comments on 'X'" notification (a lone
+ * comment still reads "alice commented on 'X'"). In {@code digest} mode buffers
+ * are held until the digest cron fires and each recipient gets one summary over
+ * all their items. {@code off} notifies per comment, as before.</p>
+ *
+ * <p>Buffers live in memory only: pending notifications are flushed on shutdown
+ * but lost on a crash (the comments themselves are persisted). When more than
+ * {@code max-pending} buffers are open, new ones bypass coalescing.</p>
+ */
+@Component
+@Slf4j
+public class CommentNotificationCoalescer {
+
+    enum Mode { OFF, WINDOW, DIGEST }
+
+    private record Key(Long recipientId, String entity, NotificationType type) {
+    }
+
+    private static final class Pending {
+        private final String subject;
+        private final long firstAt;
+        private final Set<String> authors = new LinkedHashSet<>();
+        private int count;
+
+        private Pending(String subject, long firstAt) {
+            this.subject = subject;
+            this.firstAt = firstAt;
+        }
+    }
+
+    private final NotificationService notificationService;
+    private final Mode mode;
+    private final long windowMs;
+    private final int maxPending;
+    private final Map<Key, Pending> pending = new ConcurrentHashMap<>();
+    private final Counter coalesced;
+
+    public CommentNotificationCoalescer(NotificationService notificationService,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${taskbuddy.notifications.comments.mode:window}") String mode,
+                                        @Value("${taskbuddy.notifications.comments.window-ms:30000}") long windowMs,
+                                        @Value("${taskbuddy.notifications.comments.max-pending:10000}") int maxPending) {
+        this.notificationService = notificationService;
+        this.mode = Mode.valueOf(mode.trim().toUpperCase());
+        this.windowMs = windowMs;
+        this.maxPending = maxPending;
+        this.coalesced = Counter.builder("taskbuddy.notifications.comments.coalesced")
+            .description("Comment notifications folded into an earlier pending notification")
+            .register(meterRegistry);
+        Gauge.builder("taskbuddy.notifications.comments.pending", pending, Map::size)
+            .description("Open comment notification buffers")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Buffer (or, when coalescing is off, send) the notifications for a new comment.
+     */
+    public void add(CommentAdded event) {
+        String entity = event.taskId() != null ? "task:" + event.taskId() : "project:" + event.projectId();
+        for (Long recipientId : event.recipientIds()) {
+            Key key = new Key(recipientId, entity, NotificationType.NEW_COMMENT);
+            if (mode == Mode.OFF || (pending.size() >= maxPending && !pending.containsKey(key))) {
+                notificationService.notifyNewComment(recipientId, event.subject(), event.authorName());
+                continue;
+            }
+            pending.compute(key, (k, p) -> {
+                if (p == null) {
+                    p = new Pending(event.subject(), System.currentTimeMillis());
+                } else {
+                    coalesced.increment();
+                }
+                p.count++;
+                p.authors.add(event.authorName());
+                return p;
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${taskbuddy.notifications.comments.sweep-interval-ms:1000}")
+    public void flushDueWindows() {
+        if (mode != Mode.WINDOW) {
+            return;
+        }
+        long cutoff = System.currentTimeMillis() - windowMs;
+        for (Key key : pending.keySet()) {
+            Pending[] taken = new Pending[1];
+            pending.computeIfPresent(key, (k, p) -> {
+                if (p.firstAt > cutoff) {
+                    return p;
+                }
+                taken[0] = p;
+                return null;
+            });
+            if (taken[0] != null) {
+                send(key.recipientId(), taken[0]);
+            }
+        }
+    }
+
+    @Scheduled(cron = "${taskbuddy.notifications.comments.digest-cron:0 0 * * * *}")
+    public void flushDigests() {
+        if (mode != Mode.DIGEST) {
+            return;
+        }
+        Map<Long, List<Pending>> byRecipient = new LinkedHashMap<>();
+        for (Key key : pending.keySet()) {
+            Pending p = pending.remove(key);
+            if (p != null) {
+                byRecipient.computeIfAbsent(key.recipientId(), id -> new ArrayList<>()).add(p);
+            }
+        }
+        byRecipient.forEach((recipientId, items) -> {
+            if (items.size() == 1) {
+                send(recipientId, items.get(0));
+                return;
+            }
+            // one buffer per task or project, so items sharing a title stay separate lines
+            notificationService.notifyCommentDigest(recipientId, items.stream()
+                .sorted(Comparator.comparingLong(p -> p.firstAt))
+                .map(p -> new CommentDigestItem(p.subject, p.count))
+                .toList());
+        });
+    }
+
+    @PreDestroy
+    public void flushAll() {
+        if (mode == Mode.DIGEST) {
+            flushDigests();
+            return;
+        }
+        for (Key key : pending.keySet()) {
+            Pending p = pending.remove(key);
+            if (p != null) {
+                send(key.recipientId(), p);
+            }
+        }
+    }
+
+    private void send(Long recipientId, Pending p) {
+        try {
+            notificationService.notifyNewComments(recipientId, p.subject, p.count, List.copyOf(p.authors));
+        } catch (Exception e) {
+            log.warn("Failed to send coalesced comment notification to user {}: {}", recipientId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.taskbuddy.listener;
+
+import com.taskbuddy.config.AsyncConfig;
+import com.taskbuddy.dependency.DependencyGraph;
+import com.taskbuddy.enums.TaskField;
+import com.taskbuddy.event.ProjectDeleted;
+import com.taskbuddy.event.TaskDeleted;
+import com.taskbuddy.event.TaskUpdated;
+import lombok.AllArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps loaded dependency graphs in step with committed due date changes and
+ * deletions. Link changes are applied by the dependency service itself.
+ */
+@Component
+@AllArgsConstructor
+public class DependencyGraphListener {
+
+    private final DependencyGraph graph;
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskUpdated(TaskUpdated event) {
+        if (event.changes().stream().anyMatch(change -> change.field() == TaskField.DUE_DATE)) {
+            graph.dueDateChanged(event.projectId(), event.taskId());
+        }
+    }
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskDeleted(TaskDeleted event) {
+        graph.taskDeleted(event.projectId(), event.taskId());
+    }
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectDeleted(ProjectDeleted event) {
+        graph.projectDeleted(event.projectId());
+    }
+}
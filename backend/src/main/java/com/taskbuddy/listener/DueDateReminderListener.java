@@ -0,0 +1,58 @@
+package com.taskbuddy.listener;
+
+import com.taskbuddy.config.AsyncConfig;
+import com.taskbuddy.enums.TaskField;
+import com.taskbuddy.event.TaskCreated;
+import com.taskbuddy.event.TaskDeleted;
+import com.taskbuddy.event.TaskReassigned;
+import com.taskbuddy.event.TaskStatusChanged;
+import com.taskbuddy.event.TaskUpdated;
+import com.taskbuddy.reminder.DueDateReminderScheduler;
+import lombok.AllArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Reschedules a task's due date reminder after any committed change to its
+ * due date, assignee or open/closed state. The scheduler re-reads the task,
+ * so events arriving out of order still leave the latest state.
+ */
+@Component
+@AllArgsConstructor
+public class DueDateReminderListener {
+
+    private final DueDateReminderScheduler scheduler;
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskCreated(TaskCreated event) {
+        scheduler.reschedule(event.taskId());
+    }
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskUpdated(TaskUpdated event) {
+        if (event.changes().stream().anyMatch(change -> change.field() == TaskField.DUE_DATE)) {
+            scheduler.reschedule(event.taskId());
+        }
+    }
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskReassigned(TaskReassigned event) {
+        scheduler.reschedule(event.taskId());
+    }
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskStatusChanged(TaskStatusChanged event) {
+        scheduler.reschedule(event.taskId());
+    }
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskDeleted(TaskDeleted event) {
+        scheduler.reschedule(event.taskId());
+    }
+}
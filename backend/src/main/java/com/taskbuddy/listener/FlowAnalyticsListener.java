@@ -0,0 +1,65 @@
+package com.taskbuddy.listener;
+
+import com.taskbuddy.analytics.FlowRollups;
+import com.taskbuddy.config.AsyncConfig;
+import com.taskbuddy.enums.TaskStatus;
+import com.taskbuddy.event.ProjectDeleted;
+import com.taskbuddy.event.TaskCreated;
+import com.taskbuddy.event.TaskDeleted;
+import com.taskbuddy.event.TaskReassigned;
+import com.taskbuddy.event.TaskStatusChanged;
+import lombok.AllArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Feeds committed task status transitions into the flow rollups.
+ */
+@Component
+@AllArgsConstructor
+public class FlowAnalyticsListener {
+
+    private final FlowRollups flowRollups;
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onTaskCreated(TaskCreated event) {
+        flowRollups.recordTransition(event.projectId(), null, TaskStatus.PENDING);
+    }
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onTaskStatusChanged(TaskStatusChanged event) {
+        flowRollups.recordTransition(event.projectId(), event.oldStatus(), event.newStatus());
+        // a completed task only counts once, however the event got here
+        if (event.newStatus() == TaskStatus.COMPLETED && event.oldStatus() != TaskStatus.COMPLETED) {
+            flowRollups.recordCompletion(event.projectId(), event.taskId());
+        }
+    }
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onTaskReassigned(TaskReassigned event) {
+        flowRollups.recordTransition(event.projectId(), event.previousStatus(), TaskStatus.PENDING);
+    }
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onTaskDeleted(TaskDeleted event) {
+        flowRollups.recordTransition(event.projectId(), event.status(), null);
+    }
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onProjectDeleted(ProjectDeleted event) {
+        flowRollups.deleteProject(event.projectId());
+    }
+}
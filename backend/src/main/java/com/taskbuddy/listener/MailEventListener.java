@@ -0,0 +1,26 @@
+package com.taskbuddy.listener;
+
+import com.taskbuddy.config.AsyncConfig;
+import com.taskbuddy.event.InvitationSent;
+import com.taskbuddy.service.EmailService;
+import lombok.AllArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Sends emails for domain events once the originating transaction has committed.
+ */
+@Component
+@AllArgsConstructor
+public class MailEventListener {
+
+    private final EmailService emailService;
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInvitationSent(InvitationSent event) {
+        emailService.sendProjectInvitation(event.invitedUserEmail(), event.invitedUserName(),
+            event.projectName(), event.inviterName());
+    }
+}
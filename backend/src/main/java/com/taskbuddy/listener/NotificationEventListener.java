@@ -0,0 +1,76 @@
+package com.taskbuddy.listener;
+
+import com.taskbuddy.config.AsyncConfig;
+import com.taskbuddy.event.CommentAdded;
+import com.taskbuddy.event.InvitationAccepted;
+import com.taskbuddy.event.InvitationSent;
+import com.taskbuddy.event.TaskCreated;
+import com.taskbuddy.event.TaskReassigned;
+import com.taskbuddy.event.TaskStatusChanged;
+import com.taskbuddy.service.NotificationService;
+import lombok.AllArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Turns domain events into user notifications.
+ *
+ * <p>Runs after the publishing transaction commits, on the bounded domain event
+ * executor, or on the committing thread when the executor is saturated. Each
+ * listener opens a new transaction, so its writes never join the one that just
+ * committed. Nothing is sent for rolled-back changes.</p>
+ */
+@Component
+@AllArgsConstructor
+public class NotificationEventListener {
+
+    private final NotificationService notificationService;
+    private final CommentNotificationCoalescer commentCoalescer;
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onTaskCreated(TaskCreated event) {
+        if (event.assigneeId() != null) {
+            notificationService.notifyTaskAssigned(event.assigneeId(), event.title(), event.projectName());
+        }
+    }
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onTaskReassigned(TaskReassigned event) {
+        notificationService.notifyTaskAssigned(event.newAssigneeId(), event.title(), event.projectName());
+    }
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onTaskStatusChanged(TaskStatusChanged event) {
+        notificationService.notifyTaskStatusChanged(event.managerId(), event.title(), event.newStatus().toString());
+    }
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onCommentAdded(CommentAdded event) {
+        commentCoalescer.add(event);
+    }
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onInvitationSent(InvitationSent event) {
+        notificationService.notifyProjectInvitation(event.invitedUserId(), event.projectName(), event.inviterName());
+    }
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onInvitationAccepted(InvitationAccepted event) {
+        notificationService.notifyInvitationAccepted(event.invitedById(), event.invitedUserName(), event.projectName());
+    }
+}
@@ -0,0 +1,83 @@
+package com.taskbuddy.listener;
+
+import com.taskbuddy.config.AsyncConfig;
+import com.taskbuddy.event.CommentAdded;
+import com.taskbuddy.event.CommentDeleted;
+import com.taskbuddy.event.CommentEdited;
+import com.taskbuddy.event.ProjectCreated;
+import com.taskbuddy.event.ProjectDeleted;
+import com.taskbuddy.event.ProjectUpdated;
+import com.taskbuddy.event.TaskCreated;
+import com.taskbuddy.event.TaskDeleted;
+import com.taskbuddy.event.TaskUpdated;
+import com.taskbuddy.search.SearchIndexer;
+import lombok.AllArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the search and quick switcher indexes in step with committed changes to searchable text.
+ * Rows are re-read after commit rather than copied from the event, so the index
+ * always ends up with the latest stored values.
+ */
+@Component
+@AllArgsConstructor
+public class SearchIndexListener {
+
+    private final SearchIndexer indexer;
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskCreated(TaskCreated event) {
+        indexer.reindexTask(event.taskId());
+    }
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskUpdated(TaskUpdated event) {
+        indexer.reindexTask(event.taskId());
+    }
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskDeleted(TaskDeleted event) {
+        indexer.removeTask(event.taskId());
+    }
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectCreated(ProjectCreated event) {
+        indexer.reindexProject(event.projectId());
+    }
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectUpdated(ProjectUpdated event) {
+        indexer.reindexProject(event.projectId());
+    }
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectDeleted(ProjectDeleted event) {
+        indexer.removeProject(event.projectId());
+    }
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentAdded(CommentAdded event) {
+        indexer.reindexComment(event.commentId());
+    }
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentEdited(CommentEdited event) {
+        indexer.reindexComment(event.commentId());
+    }
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentDeleted(CommentDeleted event) {
+        indexer.removeComment(event.commentId());
+    }
+}
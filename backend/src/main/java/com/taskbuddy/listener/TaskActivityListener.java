@@ -0,0 +1,96 @@
+package com.taskbuddy.listener;
+
+import com.taskbuddy.config.AsyncConfig;
+import com.taskbuddy.enums.TaskField;
+import com.taskbuddy.enums.TaskStatus;
+import com.taskbuddy.event.TaskCreated;
+import com.taskbuddy.event.TaskDeleted;
+import com.taskbuddy.event.TaskFieldChange;
+import com.taskbuddy.event.TaskReassigned;
+import com.taskbuddy.event.TaskStatusChanged;
+import com.taskbuddy.event.TaskUpdated;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Appends task changes to the activity log once they have committed. Each event
+ * becomes a single batched insert off the request thread, so the write path
+ * itself pays nothing for the history.
+ */
+@Component
+@AllArgsConstructor
+public class TaskActivityListener {
+
+    private static final String INSERT = "INSERT INTO task_activity " +
+        "(task_id, project_id, actor_id, field, old_value, new_value, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onTaskCreated(TaskCreated event) {
+        append(event.projectId(), event.taskId(), event.actorId(),
+            List.of(new TaskFieldChange(TaskField.TASK, null, event.title())));
+    }
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onTaskUpdated(TaskUpdated event) {
+        append(event.projectId(), event.taskId(), event.actorId(), event.changes());
+    }
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onTaskStatusChanged(TaskStatusChanged event) {
+        append(event.projectId(), event.taskId(), event.actorId(),
+            List.of(new TaskFieldChange(TaskField.STATUS, event.oldStatus().name(), event.newStatus().name())));
+    }
+
+    // reassigning also sends the task back to PENDING
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onTaskReassigned(TaskReassigned event) {
+        List<TaskFieldChange> changes = new ArrayList<>();
+        changes.add(new TaskFieldChange(TaskField.ASSIGNEE,
+            Objects.toString(event.previousAssigneeId(), null), Objects.toString(event.newAssigneeId(), null)));
+        if (event.previousStatus() != TaskStatus.PENDING) {
+            changes.add(new TaskFieldChange(TaskField.STATUS, event.previousStatus().name(), TaskStatus.PENDING.name()));
+        }
+        append(event.projectId(), event.taskId(), event.actorId(), changes);
+    }
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onTaskDeleted(TaskDeleted event) {
+        append(event.projectId(), event.taskId(), event.actorId(),
+            List.of(new TaskFieldChange(TaskField.TASK, event.title(), null)));
+    }
+
+    private void append(Long projectId, Long taskId, Long actorId, List<TaskFieldChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = changes.stream()
+            .map(change -> new Object[] {taskId, projectId, actorId, change.field().name(),
+                change.oldValue(), change.newValue(), now})
+            .toList();
+        jdbcTemplate.batchUpdate(INSERT, rows);
+    }
+}
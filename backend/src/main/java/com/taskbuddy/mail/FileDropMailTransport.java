@@ -0,0 +1,62 @@
+package com.taskbuddy.mail;
+
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * Test transport: writes each message as an {@code .eml} file into
+ * {@code taskbuddy.mail.file.directory}, where tests or developers can read it.
+ */
+@Component
+@ConditionalOnProperty(name = "taskbuddy.mail.transport", havingValue = "file")
+@Slf4j
+public class FileDropMailTransport implements MailTransport {
+
+    private final Session session = Session.getInstance(new Properties());
+    private final Path directory;
+    private final String from;
+
+    public FileDropMailTransport(@Value("${taskbuddy.mail.file.directory:mail-drop}") String directory,
+                                 @Value("${taskbuddy.mail.from}") String from) throws IOException {
+        this.directory = Files.createDirectories(Path.of(directory));
+        this.from = from;
+    }
+
+    @Override
+    public List<MailMessage> send(List<MailMessage> batch) {
+        List<MailMessage> failed = new ArrayList<>();
+        for (MailMessage message : batch) {
+            Path file = directory.resolve(System.currentTimeMillis() + "-" + UUID.randomUUID() + ".eml");
+            try (OutputStream out = Files.newOutputStream(file)) {
+                MimeMessage mime = new MimeMessage(session);
+                mime.setFrom(new InternetAddress(from));
+                mime.setRecipients(Message.RecipientType.TO, InternetAddress.parse(message.to()));
+                mime.setSubject(message.subject(), "UTF-8");
+                mime.setText(message.body(), "UTF-8");
+                mime.setSentDate(new Date());
+                mime.writeTo(out);
+            } catch (IOException | MessagingException e) {
+                log.warn("Could not drop mail for {} into {}: {}", message.to(), directory, e.getMessage());
+                failed.add(message);
+            }
+        }
+        return failed;
+    }
+}
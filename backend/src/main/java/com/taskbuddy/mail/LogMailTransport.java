@@ -0,0 +1,26 @@
+package com.taskbuddy.mail;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Development transport: writes messages to the application log. Bodies can
+ * carry one-time passwords, so they are only logged at DEBUG.
+ */
+@Component
+@ConditionalOnProperty(name = "taskbuddy.mail.transport", havingValue = "log", matchIfMissing = true)
+@Slf4j
+public class LogMailTransport implements MailTransport {
+
+    @Override
+    public List<MailMessage> send(List<MailMessage> batch) {
+        for (MailMessage message : batch) {
+            log.info("Mail to {}: {}", message.to(), message.subject());
+            log.debug("Mail body for {}:\n{}", message.to(), message.body());
+        }
+        return List.of();
+    }
+}
@@ -0,0 +1,168 @@
+package com.taskbuddy.mail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous outbound mail pipeline.
+ *
+ * <p>{@link #enqueue(MailMessage)} never blocks the caller: messages go into a
+ * bounded queue and a single worker thread sends them through the configured
+ * {@link MailTransport} in batches (waiting up to {@code batch-linger} to fill one).
+ * Messages that fail are re-queued after an exponential backoff, up to
+ * {@code max-attempts}. When the queue is full the message is dropped and
+ * counted; callers such as password reset let the user simply ask again.</p>
+ */
+@Component
+@Slf4j
+public class MailDispatcher {
+
+    private record Pending(MailMessage message, int attempt) {
+    }
+
+    private final MailTransport transport;
+    private final BlockingQueue<Pending> queue;
+    private final int batchSize;
+    private final Duration batchLinger;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final ScheduledExecutorService retryTimer =
+        Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "mail-retry"));
+    private final Counter sent;
+    private final Counter failed;
+    private final Counter dropped;
+    private Thread worker;
+    private volatile boolean running = true;
+
+    public MailDispatcher(MailTransport transport,
+                          MeterRegistry meterRegistry,
+                          @Value("${taskbuddy.mail.queue-capacity:1000}") int queueCapacity,
+                          @Value("${taskbuddy.mail.batch-size:50}") int batchSize,
+                          @Value("${taskbuddy.mail.batch-linger:200ms}") Duration batchLinger,
+                          @Value("${taskbuddy.mail.max-attempts:4}") int maxAttempts,
+                          @Value("${taskbuddy.mail.retry-backoff:2s}") Duration retryBackoff) {
+        this.transport = transport;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.batchLinger = batchLinger;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.sent = meterRegistry.counter("taskbuddy.mail.sent");
+        this.failed = meterRegistry.counter("taskbuddy.mail.failed");
+        this.dropped = meterRegistry.counter("taskbuddy.mail.dropped");
+        Gauge.builder("taskbuddy.mail.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        worker = new Thread(this::run, "mail-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Queue a message for delivery.
+     *
+     * @return {@code false} if the queue is full and the message was dropped
+     */
+    public boolean enqueue(MailMessage message) {
+        return offer(new Pending(message, 1));
+    }
+
+    private boolean offer(Pending pending) {
+        if (queue.offer(pending)) {
+            return true;
+        }
+        dropped.increment();
+        log.error("Mail queue full, dropping mail to {}: {}", pending.message().to(), pending.message().subject());
+        return false;
+    }
+
+    private void run() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long lingerUntil = System.nanoTime() + batchLinger.toNanos();
+                while (batch.size() < batchSize) {
+                    Pending next = queue.poll(Math.max(0, lingerUntil - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                deliver(batch);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    // stop() may interrupt the linger wait: send what was already taken off
+                    // the queue, then keep draining what is still queued
+                    deliverQuietly(batch);
+                    continue;
+                }
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Mail dispatcher error: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void deliverQuietly(List<Pending> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            deliver(batch);
+        } catch (RuntimeException e) {
+            log.error("Mail dispatcher error: {}", e.getMessage(), e);
+        }
+    }
+
+    private void deliver(List<Pending> batch) {
+        List<MailMessage> messages = batch.stream().map(Pending::message).toList();
+        List<MailMessage> failedMessages = transport.send(messages);
+        sent.increment(batch.size() - failedMessages.size());
+        for (Pending pending : batch) {
+            if (!failedMessages.contains(pending.message())) {
+                continue;
+            }
+            if (pending.attempt() >= maxAttempts || !running) {
+                failed.increment();
+                log.error("Giving up on mail to {} after {} attempts", pending.message().to(), pending.attempt());
+                continue;
+            }
+            long delayMs = retryBackoff.toMillis() << (pending.attempt() - 1);
+            retryTimer.schedule(() -> offer(new Pending(pending.message(), pending.attempt() + 1)),
+                delayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        retryTimer.shutdownNow();
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+    }
+}
@@ -0,0 +1,7 @@
+package com.taskbuddy.mail;
+
+/**
+ * A rendered plain-text email.
+ */
+public record MailMessage(String to, String subject, String body) {
+}
@@ -0,0 +1,21 @@
+package com.taskbuddy.mail;
+
+/**
+ * Available email templates, loaded from {@code classpath:mail/}. A template file
+ * starts with a {@code Subject:} line and a blank line, followed by the body;
+ * {@code {{name}}} placeholders are filled in at render time.
+ */
+public enum MailTemplate {
+    PASSWORD_RESET_OTP("mail/password-reset-otp.txt"),
+    PROJECT_INVITATION("mail/project-invitation.txt");
+
+    private final String location;
+
+    MailTemplate(String location) {
+        this.location = location;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+}
@@ -0,0 +1,102 @@
+package com.taskbuddy.mail;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Loads and compiles every {@link MailTemplate} once at startup (a missing or
+ * malformed template fails the boot, not the first send). Compiled templates are
+ * lists of literal and placeholder segments, so rendering is a single pass with
+ * no parsing or regex work per message.
+ */
+@Component
+public class MailTemplates {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{\\s*(\\w+)\\s*}}");
+
+    private record Segment(String literal, String variable) {
+    }
+
+    private record Compiled(List<Segment> subject, List<Segment> body) {
+    }
+
+    private final Map<MailTemplate, Compiled> compiled = new EnumMap<>(MailTemplate.class);
+
+    public MailTemplates() {
+        for (MailTemplate template : MailTemplate.values()) {
+            compiled.put(template, compile(template));
+        }
+    }
+
+    /**
+     * Render a template for one recipient.
+     *
+     * @throws IllegalArgumentException if a placeholder has no value
+     */
+    public MailMessage render(MailTemplate template, String to, Map<String, ?> model) {
+        Compiled c = compiled.get(template);
+        return new MailMessage(to, render(c.subject(), model), render(c.body(), model));
+    }
+
+    private static String render(List<Segment> segments, Map<String, ?> model) {
+        StringBuilder out = new StringBuilder(256);
+        for (Segment segment : segments) {
+            if (segment.variable() == null) {
+                out.append(segment.literal());
+                continue;
+            }
+            Object value = model.get(segment.variable());
+            if (value == null) {
+                throw new IllegalArgumentException("No value for mail placeholder '" + segment.variable() + "'");
+            }
+            out.append(value);
+        }
+        return out.toString();
+    }
+
+    private static Compiled compile(MailTemplate template) {
+        String text;
+        try {
+            text = new ClassPathResource(template.getLocation())
+                .getContentAsString(StandardCharsets.UTF_8)
+                .replace("\r\n", "\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load mail template " + template.getLocation(), e);
+        }
+        int headerEnd = text.indexOf("\n\n");
+        if (!text.startsWith("Subject:") || headerEnd < 0) {
+            throw new IllegalStateException("Mail template " + template.getLocation()
+                + " must start with a 'Subject:' line followed by a blank line");
+        }
+        String subject = text.substring("Subject:".length(), headerEnd).trim();
+        String body = text.substring(headerEnd + 2);
+        return new Compiled(segments(subject), segments(body));
+    }
+
+    private static List<Segment> segments(String text) {
+        List<Segment> segments = new ArrayList<>();
+        Matcher matcher = PLACEHOLDER.matcher(text);
+        int last = 0;
+        while (matcher.find()) {
+            if (matcher.start() > last) {
+                segments.add(new Segment(text.substring(last, matcher.start()), null));
+            }
+            segments.add(new Segment(null, matcher.group(1)));
+            last = matcher.end();
+        }
+        if (last < text.length()) {
+            segments.add(new Segment(text.substring(last), null));
+        }
+        return List.copyOf(segments);
+    }
+}
@@ -0,0 +1,17 @@
+package com.taskbuddy.mail;
+
+import java.util.List;
+
+/**
+ * Delivers batches of messages; selected with {@code taskbuddy.mail.transport}
+ * ({@code log}, {@code smtp} or {@code file}).
+ */
+public interface MailTransport {
+
+    /**
+     * Send a batch.
+     *
+     * @return the messages that could not be sent and may be retried
+     */
+    List<MailMessage> send(List<MailMessage> batch);
+}
@@ -0,0 +1,70 @@
+package com.taskbuddy.mail;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SMTP transport. Each batch goes through one {@code JavaMailSender.send(array)}
+ * call, which opens a single SMTP connection for the whole batch instead of one
+ * per message. Requires {@code spring.mail.host}.
+ */
+@Component
+@ConditionalOnProperty(name = "taskbuddy.mail.transport", havingValue = "smtp")
+@Slf4j
+public class SmtpMailTransport implements MailTransport {
+
+    private final JavaMailSender mailSender;
+    private final String from;
+
+    public SmtpMailTransport(JavaMailSender mailSender, @Value("${taskbuddy.mail.from}") String from) {
+        this.mailSender = mailSender;
+        this.from = from;
+    }
+
+    @Override
+    public List<MailMessage> send(List<MailMessage> batch) {
+        Map<SimpleMailMessage, MailMessage> byMessage = new IdentityHashMap<>();
+        for (MailMessage message : batch) {
+            SimpleMailMessage mail = new SimpleMailMessage();
+            mail.setFrom(from);
+            mail.setTo(message.to());
+            mail.setSubject(message.subject());
+            mail.setText(message.body());
+            byMessage.put(mail, message);
+        }
+        try {
+            mailSender.send(byMessage.keySet().toArray(SimpleMailMessage[]::new));
+            return List.of();
+        } catch (MailSendException e) {
+            // Only the messages listed as failed need another attempt; an empty map
+            // means the connection itself failed
+            if (e.getFailedMessages().isEmpty()) {
+                log.warn("SMTP batch of {} failed: {}", batch.size(), e.getMessage());
+                return batch;
+            }
+            List<MailMessage> failed = new ArrayList<>();
+            e.getFailedMessages().keySet().forEach(m -> {
+                MailMessage original = byMessage.get(m);
+                if (original != null) {
+                    failed.add(original);
+                }
+            });
+            log.warn("SMTP send failed for {} of {} messages: {}", failed.size(), batch.size(), e.getMessage());
+            return failed;
+        } catch (MailException e) {
+            log.warn("SMTP batch of {} failed: {}", batch.size(), e.getMessage());
+            return batch;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.taskbuddy.rank;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lexicographic fractional ranks for ordering items without renumbering.
+ *
+ * <p>A rank is a string over the base-62 alphabet {@code 0-9A-Za-z} in ASCII
+ * order, read as the digits of a fraction in (0, 1). Upper and lower case are
+ * different digits, so the database must compare ranks byte by byte: the
+ * {@code board_rank} column uses a binary collation, as a case-insensitive one
+ * would treat {@code 'a'} and {@code 'A'} as equal. Ranks never end in {@code '0'}, so
+ * there is always room between two of them: inserting an item computes one new
+ * string and touches no other row. Appends and prepends step the first digit
+ * that can move instead of halving, so a column grows by one character per ~30
+ * items added at the same end; {@link #evenlySpaced(int)} resets a column to
+ * short ranks once they get long.</p>
+ */
+public final class FractionalRank {
+
+    private static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+    private static final char MIN = DIGITS.charAt(0);
+    private static final char MAX = DIGITS.charAt(BASE - 1);
+    private static final char MID = DIGITS.charAt(BASE / 2);
+
+    private FractionalRank() {
+    }
+
+    /**
+     * A rank strictly between two ranks.
+     *
+     * @param before rank of the preceding item, or {@code null} for the start
+     * @param after  rank of the following item, or {@code null} for the end
+     * @throws IllegalArgumentException if {@code before >= after}
+     */
+    public static String between(String before, String after) {
+        if (before != null) {
+            validate(before);
+        }
+        if (after != null) {
+            validate(after);
+        }
+        if (before == null && after == null) {
+            return String.valueOf(MID);
+        }
+        if (after == null) {
+            return after(before);
+        }
+        if (before == null) {
+            return before(after);
+        }
+        if (before.compareTo(after) >= 0) {
+            throw new IllegalArgumentException("Rank '" + before + "' is not before '" + after + "'");
+        }
+        return midpoint(before, after);
+    }
+
+    /**
+     * {@code count} ascending ranks of equal length, spread over the lower half of
+     * the rank space so later appends start with short ranks again.
+     */
+    public static List<String> evenlySpaced(int count) {
+        int length = 1;
+        double space = BASE / 2.0;
+        while (space < count + 1) {
+            length++;
+            space *= BASE;
+        }
+        double step = space / (count + 1);
+        List<String> ranks = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            ranks.add(trimZeros(encode((long) (step * i), length)));
+        }
+        return ranks;
+    }
+
+    private static String after(String rank) {
+        char first = rank.charAt(0);
+        if (first != MAX) {
+            return String.valueOf(next(first));
+        }
+        return MAX + (rank.length() > 1 ? after(rank.substring(1)) : String.valueOf(MID));
+    }
+
+    private static String before(String rank) {
+        char first = rank.charAt(0);
+        if (digit(first) > 1) {
+            return String.valueOf(DIGITS.charAt(digit(first) - 1));
+        }
+        if (first == MIN) {
+            // the remainder is non-empty: ranks never end in '0'
+            return MIN + before(rank.substring(1));
+        }
+        // first is '1': anything starting with '0' (and not ending in it) is smaller
+        return MIN + String.valueOf(MID);
+    }
+
+    // before < after, both valid ranks; before may be "" (meaning zero)
+    private static String midpoint(String before, String after) {
+        int common = 0;
+        while (common < after.length() && digitAt(before, common) == digit(after.charAt(common))) {
+            common++;
+        }
+        if (common > 0) {
+            String rest = before.length() > common ? before.substring(common) : "";
+            return after.substring(0, common) + midpoint(rest, after.substring(common));
+        }
+        int low = digitAt(before, 0);
+        int high = digit(after.charAt(0));
+        if (high - low > 1) {
+            return String.valueOf(DIGITS.charAt((low + high) / 2));
+        }
+        // adjacent first digits
+        if (after.length() > 1) {
+            return after.substring(0, 1);
+        }
+        String rest = before.length() > 1 ? before.substring(1) : "";
+        return DIGITS.charAt(low) + (rest.isEmpty() ? String.valueOf(MID) : after(rest));
+    }
+
+    private static String encode(long value, int length) {
+        char[] chars = new char[length];
+        for (int i = length - 1; i >= 0; i--) {
+            chars[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        return new String(chars);
+    }
+
+    private static String trimZeros(String rank) {
+        int end = rank.length();
+        while (end > 1 && rank.charAt(end - 1) == MIN) {
+            end--;
+        }
+        return rank.substring(0, end);
+    }
+
+    private static int digitAt(String rank, int index) {
+        return index < rank.length() ? digit(rank.charAt(index)) : 0;
+    }
+
+    private static int digit(char c) {
+        int d = DIGITS.indexOf(c);
+        if (d < 0) {
+            throw new IllegalArgumentException("Invalid rank character '" + c + "'");
+        }
+        return d;
+    }
+
+    private static char next(char c) {
+        return DIGITS.charAt(digit(c) + 1);
+    }
+
+    private static void validate(String rank) {
+        if (rank.isEmpty() || rank.charAt(rank.length() - 1) == MIN) {
+            throw new IllegalArgumentException("Invalid rank '" + rank + "'");
+        }
+        for (int i = 0; i < rank.length(); i++) {
+            digit(rank.charAt(i));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.taskbuddy.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+
+/**
+ * One {@link TokenBucket} per key (email, IP, ...), held in a bounded in-memory
+ * cache. A bucket idle long enough to have refilled completely is dropped, since
+ * a fresh bucket behaves the same; the size bound keeps key-spraying floods from
+ * growing memory. Rejections are counted as {@code taskbuddy.ratelimit.rejected}
+ * tagged with the limiter name.
+ */
+public class KeyedRateLimiter {
+
+    private final long capacity;
+    private final Duration refillPeriod;
+    private final Cache<String, TokenBucket> buckets;
+    private final Counter rejected;
+
+    public KeyedRateLimiter(String name, long capacity, Duration refillPeriod, long maxKeys, MeterRegistry meterRegistry) {
+        this.capacity = capacity;
+        this.refillPeriod = refillPeriod;
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(maxKeys)
+            .expireAfterAccess(refillPeriod.multipliedBy(capacity))
+            .build();
+        this.rejected = Counter.builder("taskbuddy.ratelimit.rejected")
+            .description("Requests rejected by a rate limiter")
+            .tag("limiter", name)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Take a token for the key.
+     *
+     * @return {@link Duration#ZERO} if the request may proceed, otherwise how long
+     *         the caller should wait before retrying
+     */
+    public Duration tryAcquire(String key) {
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(capacity, refillPeriod));
+        if (bucket.tryConsume()) {
+            return Duration.ZERO;
+        }
+        rejected.increment();
+        return bucket.timeToNextToken();
+    }
+}
@@ -0,0 +1,44 @@
+package com.taskbuddy.ratelimit;
+
+import com.taskbuddy.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Per-email and per-IP limits for the forgot/reset password endpoints, checked
+ * before any database work so request floods are absorbed in memory.
+ */
+@Component
+public class PasswordResetRateLimiter {
+
+    private final KeyedRateLimiter perEmail;
+    private final KeyedRateLimiter perIp;
+
+    public PasswordResetRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${taskbuddy.ratelimit.password-reset.email.capacity:3}") long emailCapacity,
+            @Value("${taskbuddy.ratelimit.password-reset.email.refill-period:5m}") Duration emailRefill,
+            @Value("${taskbuddy.ratelimit.password-reset.ip.capacity:20}") long ipCapacity,
+            @Value("${taskbuddy.ratelimit.password-reset.ip.refill-period:30s}") Duration ipRefill,
+            @Value("${taskbuddy.ratelimit.password-reset.max-keys:100000}") long maxKeys) {
+        this.perEmail = new KeyedRateLimiter("password-reset-email", emailCapacity, emailRefill, maxKeys, meterRegistry);
+        this.perIp = new KeyedRateLimiter("password-reset-ip", ipCapacity, ipRefill, maxKeys, meterRegistry);
+    }
+
+    /**
+     * @throws RateLimitExceededException if either the IP or the email is over its limit
+     */
+    public void check(String email, String clientIp) {
+        Duration wait = perIp.tryAcquire(clientIp);
+        if (wait.isZero()) {
+            wait = perEmail.tryAcquire(email.trim().toLowerCase(Locale.ROOT));
+        }
+        if (!wait.isZero()) {
+            throw new RateLimitExceededException("Too many password reset attempts. Try again later.", wait);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.taskbuddy.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskbuddy.config.HttpRateLimitProperties;
+import com.taskbuddy.config.HttpRateLimitProperties.KeyType;
+import com.taskbuddy.config.HttpRateLimitProperties.Route;
+import com.taskbuddy.dto.ApiResponse;
+import com.taskbuddy.security.JwtService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsConfigurationSource;
+import org.springframework.web.cors.CorsProcessor;
+import org.springframework.web.cors.DefaultCorsProcessor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Admission control for the HTTP API, registered ahead of the Spring Security
+ * chain so rejected requests never reach BCrypt, JWT parsing or the database.
+ *
+ * <p>The first {@link Route} matching the path applies its token bucket (429 with
+ * {@code Retry-After} when empty) and its concurrency limit. A global limit then
+ * caps all {@code /api/**} requests in flight. Concurrency limits never wait: when
+ * no permit is free the request is shed with 503, because queueing under overload
+ * only makes every request slow. Per-user buckets are keyed by the subject of a
+ * bearer token whose signature checks out; missing or forged tokens fall back to
+ * the client IP, so made-up tokens cannot mint fresh buckets. Rejections carry the CORS headers the security
+ * chain would have added, so browser clients can read the status.</p>
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String API_PATTERN = "/api/**";
+
+    private record CompiledRoute(Route route, KeyedRateLimiter limiter, Semaphore inFlight, Counter shed) {
+    }
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<CompiledRoute> routes;
+    private final Semaphore globalInFlight;
+    private final Counter globalShed;
+    private final ObjectMapper objectMapper;
+    private final JwtService jwtService;
+    private final CorsConfigurationSource corsConfigurationSource;
+    private final CorsProcessor corsProcessor = new DefaultCorsProcessor();
+
+    public RateLimitFilter(HttpRateLimitProperties properties, MeterRegistry meterRegistry,
+                           ObjectMapper objectMapper, JwtService jwtService,
+                           CorsConfigurationSource corsConfigurationSource) {
+        this.objectMapper = objectMapper;
+        this.jwtService = jwtService;
+        this.corsConfigurationSource = corsConfigurationSource;
+        this.routes = properties.getRoutes().stream()
+            .map(route -> new CompiledRoute(route,
+                route.getCapacity() > 0
+                    ? new KeyedRateLimiter("http-" + route.getName(), route.getCapacity(),
+                        route.getRefillPeriod(), properties.getMaxKeys(), meterRegistry)
+                    : null,
+                route.getMaxConcurrent() > 0 ? new Semaphore(route.getMaxConcurrent()) : null,
+                shedCounter(meterRegistry, route.getName())))
+            .toList();
+        this.globalInFlight = properties.getMaxConcurrent() > 0 ? new Semaphore(properties.getMaxConcurrent()) : null;
+        this.globalShed = shedCounter(meterRegistry, "global");
+    }
+
+    private static Counter shedCounter(MeterRegistry meterRegistry, String route) {
+        return Counter.builder("taskbuddy.loadshed.rejected")
+            .description("Requests shed because a concurrency limit was reached")
+            .tag("route", route)
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!pathMatcher.match(API_PATTERN, path) || "OPTIONS".equals(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        CompiledRoute route = routes.stream()
+            .filter(r -> pathMatcher.match(r.route().getPattern(), path))
+            .findFirst()
+            .orElse(null);
+
+        if (route != null && route.limiter() != null) {
+            Duration wait = route.limiter().tryAcquire(keyFor(route.route().getKey(), request));
+            if (!wait.isZero()) {
+                reject(request, response, HttpStatus.TOO_MANY_REQUESTS, wait, "Too many requests. Try again later.");
+                return;
+            }
+        }
+
+        Semaphore routePermit = route != null ? route.inFlight() : null;
+        if (routePermit != null && !routePermit.tryAcquire()) {
+            route.shed().increment();
+            reject(request, response, HttpStatus.SERVICE_UNAVAILABLE, Duration.ofSeconds(1), "Server is busy. Try again shortly.");
+            return;
+        }
+        try {
+            if (globalInFlight != null && !globalInFlight.tryAcquire()) {
+                globalShed.increment();
+                reject(request, response, HttpStatus.SERVICE_UNAVAILABLE, Duration.ofSeconds(1), "Server is busy. Try again shortly.");
+                return;
+            }
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                if (globalInFlight != null) {
+                    globalInFlight.release();
+                }
+            }
+        } finally {
+            if (routePermit != null) {
+                routePermit.release();
+            }
+        }
+    }
+
+    private String keyFor(KeyType keyType, HttpServletRequest request) {
+        if (keyType == KeyType.USER) {
+            String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+            if (authHeader != null && authHeader.startsWith("Bearer ")) {
+                String username = jwtService.extractVerifiedSubject(authHeader.substring(7));
+                if (username != null) {
+                    return "user:" + username;
+                }
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                        Duration retryAfter, String message) throws IOException {
+        CorsConfiguration cors = corsConfigurationSource.getCorsConfiguration(request);
+        if (cors != null && !corsProcessor.processRequest(cors, request, response)) {
+            // disallowed origin: the processor has already answered 403
+            return;
+        }
+        // round up so clients never retry a moment too early
+        long seconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ApiResponse<>(false, message, null));
+    }
+}
@@ -0,0 +1,49 @@
+package com.taskbuddy.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Classic token bucket: holds up to {@code capacity} tokens and regains one
+ * every {@code refillPeriod}. Allows bursts up to the capacity and a sustained
+ * rate of one request per refill period.
+ */
+public final class TokenBucket {
+
+    private final long capacity;
+    private final long nanosPerToken;
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(long capacity, Duration refillPeriod) {
+        this.capacity = capacity;
+        this.nanosPerToken = refillPeriod.toNanos();
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    public synchronized boolean tryConsume() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Time until the next token becomes available (zero if one is available now).
+     */
+    public synchronized Duration timeToNextToken() {
+        refill();
+        if (tokens >= 1) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos((long) ((1 - tokens) * nanosPerToken));
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (double) (now - lastRefill) / nanosPerToken);
+        lastRefill = now;
+    }
+}
@@ -0,0 +1,265 @@
+package com.taskbuddy.reminder;
+
+import com.taskbuddy.entity.Task;
+import com.taskbuddy.enums.TaskStatus;
+import com.taskbuddy.repository.TaskRepository;
+import com.taskbuddy.repository.TaskRepository.ReminderCandidate;
+import com.taskbuddy.service.NotificationService;
+import com.taskbuddy.service.NotificationService.DueTask;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Reminds assignees of tasks whose due date is approaching.
+ *
+ * <p>Only open, assigned, not yet reminded tasks due within the next
+ * {@code horizon-days} are held, in a {@link TimingWheel} keyed by reminder
+ * time ({@code lead-time} before the start of the due date). They are loaded
+ * in (due date, id) order from idx_tasks_due; the <em>watermark</em> is the
+ * last key loaded, and every candidate at or below it is in the wheel. When
+ * the wheel holds {@code max-entries} tasks, loading stops at the watermark
+ * and resumes as reminders fire, so memory is bounded however many tasks are
+ * due. Task events reschedule single tasks: a task moving above the
+ * watermark leaves the wheel and is loaded again in its turn.</p>
+ *
+ * <p>Each tick fires the expired reminders as one notification per assignee.
+ * A task is claimed by setting {@code reminder_sent_for} to its due date in
+ * the same transaction, so restarts and several instances never remind twice,
+ * and a new due date re-arms the reminder.</p>
+ */
+@Component
+@Slf4j
+public class DueDateReminderScheduler {
+
+    private static final Set<TaskStatus> CLOSED_STATUSES = EnumSet.of(TaskStatus.COMPLETED, TaskStatus.REJECTED);
+    private static final String CLAIM = "UPDATE tasks SET reminder_sent_for = due_date " +
+        "WHERE id = ? AND due_date = ? AND (reminder_sent_for IS NULL OR reminder_sent_for <> due_date)";
+
+    private record Key(LocalDate dueDate, Long id) implements Comparable<Key> {
+        private static final Comparator<Key> ORDER = Comparator.comparing(Key::dueDate).thenComparing(Key::id);
+
+        @Override
+        public int compareTo(Key other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    private final TaskRepository taskRepository;
+    private final NotificationService notificationService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final ZoneId zone;
+    private final Duration leadTime;
+    private final int horizonDays;
+    private final int maxEntries;
+    private final int loadChunkSize;
+    private final Counter sent;
+
+    // guarded by this
+    private final TimingWheel wheel;
+    private final NavigableSet<Key> keys = new TreeSet<>();
+    private final Map<Long, Key> keyById = new HashMap<>();
+    private Key watermark;
+
+    public DueDateReminderScheduler(TaskRepository taskRepository,
+                                    NotificationService notificationService,
+                                    JdbcTemplate jdbcTemplate,
+                                    TransactionTemplate transactionTemplate,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${taskbuddy.reminders.lead-time:15h}") Duration leadTime,
+                                    @Value("${taskbuddy.reminders.horizon-days:2}") int horizonDays,
+                                    @Value("${taskbuddy.reminders.max-entries:50000}") int maxEntries,
+                                    @Value("${taskbuddy.reminders.load-chunk-size:1000}") int loadChunkSize,
+                                    @Value("${taskbuddy.reminders.tick-ms:60000}") long tickMillis,
+                                    @Value("${taskbuddy.reminders.wheel-slots:512}") int wheelSlots) {
+        this.taskRepository = taskRepository;
+        this.notificationService = notificationService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = Clock.systemDefaultZone();
+        this.zone = clock.getZone();
+        this.leadTime = leadTime;
+        this.horizonDays = horizonDays;
+        this.maxEntries = maxEntries;
+        this.loadChunkSize = loadChunkSize;
+        this.wheel = new TimingWheel(tickMillis, wheelSlots, clock.millis());
+        this.watermark = nothingLoaded();
+        this.sent = Counter.builder("taskbuddy.reminders.sent")
+            .description("Due date reminders sent")
+            .register(meterRegistry);
+        Gauge.builder("taskbuddy.reminders.scheduled", this, DueDateReminderScheduler::scheduled)
+            .description("Tasks waiting in the due date reminder wheel")
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refill();
+        log.info("Due date reminders: {} tasks scheduled", scheduled());
+    }
+
+    @Scheduled(fixedDelayString = "${taskbuddy.reminders.tick-ms:60000}", initialDelayString = "${taskbuddy.reminders.tick-ms:60000}")
+    public void tick() {
+        List<Long> expired;
+        synchronized (this) {
+            expired = wheel.advance(clock.millis());
+            expired.forEach(id -> keys.remove(keyById.remove(id)));
+        }
+        if (!expired.isEmpty()) {
+            fire(expired);
+        }
+        refill();
+    }
+
+    /**
+     * Re-read one task after a committed change and put it where it belongs:
+     * in the wheel, or out of it if it is closed, unassigned, reminded, due
+     * beyond the watermark or deleted.
+     */
+    public synchronized void reschedule(Long taskId) {
+        unschedule(taskId);
+        taskRepository.findReminderCandidate(taskId, CLOSED_STATUSES)
+            .filter(candidate -> candidate.getDueDate() != null && !candidate.getDueDate().isBefore(today()))
+            .map(candidate -> new Key(candidate.getDueDate(), candidate.getId()))
+            .filter(key -> key.compareTo(watermark) <= 0)
+            .ifPresent(this::schedule);
+    }
+
+    public synchronized int scheduled() {
+        return wheel.size();
+    }
+
+    /** Load candidates above the watermark until the horizon or the size bound is reached. */
+    private synchronized void refill() {
+        LocalDate today = today();
+        LocalDate horizonEnd = today.plusDays(horizonDays);
+        int loaded = 0;
+        while (wheel.size() < maxEntries) {
+            int limit = Math.min(loadChunkSize, maxEntries - wheel.size());
+            List<ReminderCandidate> chunk = taskRepository.findReminderCandidates(today, horizonEnd,
+                watermark.dueDate(), watermark.id(), CLOSED_STATUSES, Limit.of(limit));
+            for (ReminderCandidate candidate : chunk) {
+                Key key = new Key(candidate.getDueDate(), candidate.getId());
+                schedule(key);
+                watermark = key;
+            }
+            loaded += chunk.size();
+            if (chunk.size() < limit) {
+                // everything up to the horizon is loaded
+                watermark = new Key(horizonEnd, Long.MAX_VALUE);
+                break;
+            }
+        }
+        if (loaded > 0) {
+            log.debug("Loaded {} due date reminders, watermark {}", loaded, watermark);
+        }
+    }
+
+    private void schedule(Key key) {
+        boolean evicted = false;
+        if (wheel.size() >= maxEntries && !wheel.contains(key.id())) {
+            // full: keep the earliest keys; whatever is given up is loaded again once there is room
+            Key last = keys.last();
+            if (last.compareTo(key) < 0) {
+                watermark = last;
+                return;
+            }
+            unschedule(last.id());
+            evicted = true;
+        }
+        keys.add(key);
+        keyById.put(key.id(), key);
+        wheel.schedule(key.id(), remindAt(key.dueDate()));
+        if (evicted) {
+            watermark = keys.last();
+        }
+    }
+
+    private void unschedule(Long taskId) {
+        Key key = keyById.remove(taskId);
+        if (key != null) {
+            keys.remove(key);
+            wheel.cancel(taskId);
+        }
+    }
+
+    private void fire(List<Long> taskIds) {
+        List<Task> rescheduled = new ArrayList<>();
+        Integer count = transactionTemplate.execute(tx -> {
+            long now = clock.millis();
+            LocalDate today = today();
+            List<Task> due = new ArrayList<>();
+            for (Task task : taskRepository.findWithAssigneeByIdIn(taskIds)) {
+                if (task.getAssignedUser() == null || task.getDueDate() == null || task.getDueDate().isBefore(today)
+                        || CLOSED_STATUSES.contains(task.getStatus()) || task.getDueDate().equals(task.getReminderSentFor())) {
+                    continue;
+                }
+                if (remindAt(task.getDueDate()) > now) {
+                    // loaded before its due date moved later; the reschedule event may not have arrived yet
+                    rescheduled.add(task);
+                } else {
+                    due.add(task);
+                }
+            }
+            due.sort(Comparator.comparing(Task::getDueDate).thenComparing(Task::getId));
+
+            // claim first: only rows this transaction flips get a reminder
+            int[] claimed = due.isEmpty() ? new int[0] : jdbcTemplate.batchUpdate(CLAIM, due.stream()
+                .map(task -> new Object[] {task.getId(), task.getDueDate()})
+                .toList());
+            Map<Long, Map<Long, DueTask>> byAssignee = new LinkedHashMap<>();
+            for (int i = 0; i < due.size(); i++) {
+                if (claimed[i] > 0) {
+                    Task task = due.get(i);
+                    byAssignee.computeIfAbsent(task.getAssignedUser().getId(), id -> new LinkedHashMap<>())
+                        .put(task.getId(), new DueTask(task.getTitle(), task.getDueDate()));
+                }
+            }
+            byAssignee.forEach(notificationService::notifyTasksDueSoon);
+            return byAssignee.values().stream().mapToInt(Map::size).sum();
+        });
+        rescheduled.forEach(task -> reschedule(task.getId()));
+        if (count != null && count > 0) {
+            sent.increment(count);
+            log.info("Sent {} due date reminders", count);
+        }
+    }
+
+    private long remindAt(LocalDate dueDate) {
+        return dueDate.atStartOfDay(zone).minus(leadTime).toInstant().toEpochMilli();
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    private Key nothingLoaded() {
+        return new Key(today().minusDays(1), Long.MAX_VALUE);
+    }
+}
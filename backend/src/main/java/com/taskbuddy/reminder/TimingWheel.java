@@ -0,0 +1,86 @@
+package com.taskbuddy.reminder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A hashed timing wheel of task ids: {@code slots} buckets of {@code tickMillis}
+ * each, indexed by deadline tick modulo the wheel size. Deadlines more than
+ * one revolution away wait in their bucket for the remaining rounds.
+ *
+ * <p>Scheduling and cancelling are O(1); advancing visits only the buckets
+ * of the ticks that passed. Memory is one bucket array plus one small record
+ * per scheduled id. Not thread-safe; the owner serializes access.</p>
+ */
+final class TimingWheel {
+
+    private record Timer(Long id, long deadlineTick, int slot) {
+    }
+
+    private final long tickMillis;
+    private final List<Set<Long>> slots;
+    private final Map<Long, Timer> timers = new HashMap<>();
+    // the next tick whose bucket has not been visited yet
+    private long nextTick;
+
+    TimingWheel(long tickMillis, int slots, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.slots = new ArrayList<>(slots);
+        for (int i = 0; i < slots; i++) {
+            this.slots.add(new LinkedHashSet<>());
+        }
+        this.nextTick = nowMillis / tickMillis;
+    }
+
+    /** Schedule (or move) {@code id} to fire at {@code deadlineMillis}; past deadlines fire on the next advance. */
+    void schedule(Long id, long deadlineMillis) {
+        cancel(id);
+        long tick = Math.max(deadlineMillis / tickMillis, nextTick);
+        int slot = (int) (tick % slots.size());
+        slots.get(slot).add(id);
+        timers.put(id, new Timer(id, tick, slot));
+    }
+
+    boolean cancel(Long id) {
+        Timer timer = timers.remove(id);
+        if (timer == null) {
+            return false;
+        }
+        slots.get(timer.slot()).remove(id);
+        return true;
+    }
+
+    boolean contains(Long id) {
+        return timers.containsKey(id);
+    }
+
+    int size() {
+        return timers.size();
+    }
+
+    /** Remove and return every id whose deadline is at or before {@code nowMillis}. */
+    List<Long> advance(long nowMillis) {
+        long currentTick = nowMillis / tickMillis;
+        List<Long> expired = new ArrayList<>();
+        // after a long pause one full revolution visits every bucket
+        long lastTick = Math.min(currentTick, nextTick + slots.size() - 1);
+        for (long tick = nextTick; tick <= lastTick; tick++) {
+            Iterator<Long> bucket = slots.get((int) (tick % slots.size())).iterator();
+            while (bucket.hasNext()) {
+                Long id = bucket.next();
+                if (timers.get(id).deadlineTick() <= currentTick) {
+                    bucket.remove();
+                    timers.remove(id);
+                    expired.add(id);
+                }
+            }
+        }
+        nextTick = Math.max(nextTick, currentTick + 1);
+        return expired;
+    }
+}
@@ -1,10 +1,32 @@
 package com.taskbuddy.repository;
 
 import com.taskbuddy.entity.Comment;
+import com.taskbuddy.search.IndexRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByTaskId(Long taskId);
     List<Comment> findByProjectId(Long projectId);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.task.id = :taskId")
+    int deleteAllByTaskId(@Param("taskId") Long taskId);
+
+    // comments hang off a task or directly off a project
+    String INDEX_ROW = "SELECT c.id AS id, COALESCE(p.id, t.project.id) AS projectId, t.id AS taskId, " +
+                       "COALESCE(t.title, p.name) AS title, c.message AS body " +
+                       "FROM Comment c LEFT JOIN c.task t LEFT JOIN c.project p ";
+
+    /** Search index rows in id order, for streaming the whole table in chunks. */
+    @Query(INDEX_ROW + "WHERE c.id > :afterId ORDER BY c.id")
+    List<IndexRow> findIndexRows(@Param("afterId") Long afterId, Limit limit);
+
+    @Query(INDEX_ROW + "WHERE c.id = :id")
+    Optional<IndexRow> findIndexRow(@Param("id") Long id);
 }
@@ -1,7 +1,12 @@
 package com.taskbuddy.repository;
 
 import com.taskbuddy.entity.Notification;
+import com.taskbuddy.enums.NotificationType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
@@ -9,5 +14,11 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     List<Notification> findByRecipientIdAndIsReadFalse(Long recipientId);
 
     List<Notification> findByRecipientId(Long recipientId);
-}
 
+    /**
+     * Ids of notifications past their retention, oldest first, for chunked purging.
+     */
+    @Query("SELECT n.id FROM Notification n WHERE n.type = :type AND n.isRead = :read AND n.createdAt < :cutoff ORDER BY n.id")
+    List<Long> findIdsForPurge(@Param("type") NotificationType type, @Param("read") boolean read,
+                               @Param("cutoff") LocalDateTime cutoff, Limit limit);
+}
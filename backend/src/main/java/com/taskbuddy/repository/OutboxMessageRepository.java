@@ -0,0 +1,25 @@
+package com.taskbuddy.repository;
+
+import com.taskbuddy.entity.OutboxMessage;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    List<OutboxMessage> findByAvailableAtLessThanEqualOrderByIdAsc(LocalDateTime now, Limit limit);
+
+    /**
+     * Record a failed delivery attempt and hold the rows back until {@code retryAt}.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxMessage o SET o.attempts = o.attempts + 1, o.availableAt = :retryAt WHERE o.id IN :ids")
+    int markFailed(@Param("ids") Collection<Long> ids, @Param("retryAt") LocalDateTime retryAt);
+}
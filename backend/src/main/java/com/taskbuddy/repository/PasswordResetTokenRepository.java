@@ -1,9 +1,13 @@
 package com.taskbuddy.repository;
 
 import com.taskbuddy.entity.PasswordResetToken;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,4 +19,10 @@ public interface PasswordResetTokenRepository extends JpaRepository<PasswordRese
     void deleteByEmailAndUsedTrue(String email);
     
     void deleteByExpiryTimeBefore(LocalDateTime currentTime);
-}
\ No newline at end of file
+
+    /**
+     * Ids of used or expired tokens, for the janitor's chunked deletes.
+     */
+    @Query("SELECT t.id FROM PasswordResetToken t WHERE t.used = true OR t.expiryTime < :now ORDER BY t.id")
+    List<Long> findIdsToPurge(@Param("now") LocalDateTime now, Limit limit);
+}
@@ -0,0 +1,45 @@
+package com.taskbuddy.repository;
+
+import com.taskbuddy.entity.ProjectFlowDaily;
+import com.taskbuddy.enums.FlowMetric;
+import com.taskbuddy.enums.TaskStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Reads of the flow rollup tables; they are written by
+ * {@link com.taskbuddy.analytics.FlowRollups}.
+ */
+@Repository
+public interface ProjectFlowRepository extends JpaRepository<ProjectFlowDaily, Long> {
+
+    interface StatusTotal {
+        TaskStatus getStatus();
+        Long getTotal();
+    }
+
+    interface BucketTotal {
+        FlowMetric getMetric();
+        Integer getBucket();
+        Long getCount();
+        Long getTotalSeconds();
+    }
+
+    /** Task count per status at the start of {@code day}. */
+    @Query("SELECT f.status AS status, SUM(f.delta) AS total FROM ProjectFlowDaily f " +
+           "WHERE f.projectId = :projectId AND f.day < :day GROUP BY f.status")
+    List<StatusTotal> findTotalsBefore(@Param("projectId") Long projectId, @Param("day") LocalDate day);
+
+    List<ProjectFlowDaily> findByProjectIdAndDayBetweenOrderByDay(Long projectId, LocalDate from, LocalDate to);
+
+    @Query("SELECT d.metric AS metric, d.bucket AS bucket, SUM(d.count) AS count, SUM(d.totalSeconds) AS totalSeconds " +
+           "FROM ProjectFlowDuration d WHERE d.projectId = :projectId AND d.day BETWEEN :from AND :to " +
+           "GROUP BY d.metric, d.bucket")
+    List<BucketTotal> findDurationBuckets(@Param("projectId") Long projectId, @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to);
+}
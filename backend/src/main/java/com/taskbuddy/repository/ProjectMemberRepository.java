@@ -6,6 +6,9 @@ import com.taskbuddy.entity.Project;
 import com.taskbuddy.enums.ProjectRole;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
@@ -14,15 +17,36 @@ import java.util.Optional;
 /**
  * Repository interface for ProjectMember entity
  * Provides database operations for ProjectMember management
+ *
+ * Membership lookups run on almost every request (authorization checks), so the
+ * hot ones are served from the "project-member-queries" query cache region.
  */
 @Repository
 public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Long> {
     
+    String QUERY_CACHE_REGION = "project-member-queries";
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
     List<ProjectMember> findByProjectId(Long projectId);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
     List<ProjectMember> findByUserId(Long userId);
+
     List<ProjectMember> findByUser(User user);
     List<ProjectMember> findByProject(Project project);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
     boolean existsByProjectIdAndUserId(Long projectId, Long userId);
+
     boolean existsByProjectAndUser(Project project, User user);
     Optional<ProjectMember> findByProjectAndUser(Project project, User user);
     
@@ -33,6 +57,10 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
     void deleteByProject(Project project);
     
     @Query("SELECT pm FROM ProjectMember pm WHERE pm.project.id = :projectId AND pm.user.id = :userId")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
     Optional<ProjectMember> findByProjectIdAndUserId(@Param("projectId") Long projectId, @Param("userId") Long userId);
     
     @Query("SELECT pm FROM ProjectMember pm WHERE pm.project.id = :projectId AND pm.role = :role")
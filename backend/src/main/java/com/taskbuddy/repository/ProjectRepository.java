@@ -2,10 +2,18 @@ package com.taskbuddy.repository;
 
 import com.taskbuddy.entity.Project;
 import com.taskbuddy.entity.User;
+import com.taskbuddy.search.IndexRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for Project entity
@@ -20,4 +28,28 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
      * @return List of projects managed by the user
      */
     List<Project> findByManager(User manager);
+
+    /**
+     * Lock the project row until the transaction ends, serializing changes
+     * that must be checked against the project as a whole
+     * @param id the project ID
+     * @return the locked project
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Project p WHERE p.id = :id")
+    Optional<Project> findForUpdateById(@Param("id") Long id);
+
+    String INDEX_ROW = "SELECT p.id AS id, p.id AS projectId, CAST(NULL AS Long) AS taskId, " +
+                       "p.name AS title, p.description AS body FROM Project p ";
+
+    /**
+     * Search index rows in id order, for streaming the whole table in chunks
+     * @param afterId keyset cursor, exclusive
+     * @param limit chunk size
+     */
+    @Query(INDEX_ROW + "WHERE p.id > :afterId ORDER BY p.id")
+    List<IndexRow> findIndexRows(@Param("afterId") Long afterId, Limit limit);
+
+    @Query(INDEX_ROW + "WHERE p.id = :id")
+    Optional<IndexRow> findIndexRow(@Param("id") Long id);
 }
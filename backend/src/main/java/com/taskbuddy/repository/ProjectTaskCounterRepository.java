@@ -0,0 +1,18 @@
+package com.taskbuddy.repository;
+
+import com.taskbuddy.entity.ProjectTaskCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Read side of the per-project status counters; writes go through
+ * {@link com.taskbuddy.counter.ProjectTaskCounters}.
+ */
+@Repository
+public interface ProjectTaskCounterRepository extends JpaRepository<ProjectTaskCounter, Long> {
+
+    List<ProjectTaskCounter> findByProjectIdIn(Collection<Long> projectIds);
+}
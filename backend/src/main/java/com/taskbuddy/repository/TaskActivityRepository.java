@@ -0,0 +1,19 @@
+package com.taskbuddy.repository;
+
+import com.taskbuddy.entity.TaskActivity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Read side of the task activity log; rows are written in batches by
+ * {@link com.taskbuddy.listener.TaskActivityListener}.
+ */
+@Repository
+public interface TaskActivityRepository extends JpaRepository<TaskActivity, Long> {
+
+    Slice<TaskActivity> findByTaskIdOrderByIdDesc(Long taskId, Pageable pageable);
+
+    Slice<TaskActivity> findByProjectIdOrderByIdDesc(Long projectId, Pageable pageable);
+}
@@ -0,0 +1,39 @@
+package com.taskbuddy.repository;
+
+import com.taskbuddy.entity.TaskDependency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for TaskDependency entity
+ * Links are loaded a whole project at a time to build its dependency graph
+ */
+@Repository
+public interface TaskDependencyRepository extends JpaRepository<TaskDependency, Long> {
+
+    List<TaskDependency> findByProjectId(Long projectId);
+
+    boolean existsByBlockerTaskIdAndBlockedTaskId(Long blockerTaskId, Long blockedTaskId);
+
+    @Modifying
+    @Query("DELETE FROM TaskDependency d WHERE d.blockerTaskId = :blockerTaskId AND d.blockedTaskId = :blockedTaskId")
+    int deleteLink(@Param("blockerTaskId") Long blockerTaskId, @Param("blockedTaskId") Long blockedTaskId);
+
+    /**
+     * Remove every link of a task, in either direction
+     * @param taskId the task ID
+     * @return number of links removed
+     */
+    @Modifying
+    @Query("DELETE FROM TaskDependency d WHERE d.blockerTaskId = :taskId OR d.blockedTaskId = :taskId")
+    int deleteAllByTaskId(@Param("taskId") Long taskId);
+
+    @Modifying
+    @Query("DELETE FROM TaskDependency d WHERE d.projectId = :projectId")
+    int deleteAllByProjectId(@Param("projectId") Long projectId);
+}
@@ -2,11 +2,210 @@ package com.taskbuddy.repository;
 
 import com.taskbuddy.entity.Task;
 import com.taskbuddy.entity.Project;
+import com.taskbuddy.entity.User;
+import com.taskbuddy.enums.TaskStatus;
+import com.taskbuddy.search.IndexRow;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByAssignedUserId(Long userId);
     List<Task> findByProjectId(Long projectId);
     List<Task> findByProject(Project project);
+
+    /**
+     * Load a task together with everything the mutation paths need for their
+     * authorization checks (project, project manager, assignee) in one query.
+     */
+    @EntityGraph(attributePaths = {"project", "project.manager", "assignedUser"})
+    @Query("SELECT t FROM Task t WHERE t.id = :id")
+    Optional<Task> findWithAuthContextById(@Param("id") Long id);
+
+    /*
+     * Due-date windows, served by idx_tasks_assignee_due / idx_tasks_project_due.
+     * Slices fetch one row past the page instead of running a count query.
+     */
+    @EntityGraph(attributePaths = {"project", "assignedUser"})
+    @Query("SELECT t FROM Task t WHERE t.assignedUser.id = :userId AND t.dueDate BETWEEN :from AND :to " +
+           "AND t.status NOT IN :closed ORDER BY t.dueDate, t.id")
+    Slice<Task> findOpenDueBetweenForUser(@Param("userId") Long userId, @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to, @Param("closed") Collection<TaskStatus> closed,
+                                          Pageable pageable);
+
+    @EntityGraph(attributePaths = {"project", "assignedUser"})
+    @Query("SELECT t FROM Task t WHERE t.assignedUser.id = :userId AND t.dueDate < :before " +
+           "AND t.status NOT IN :closed ORDER BY t.dueDate, t.id")
+    Slice<Task> findOpenDueBeforeForUser(@Param("userId") Long userId, @Param("before") LocalDate before,
+                                         @Param("closed") Collection<TaskStatus> closed, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"project", "assignedUser"})
+    @Query("SELECT t FROM Task t WHERE t.project.id = :projectId AND t.dueDate BETWEEN :from AND :to " +
+           "AND t.status NOT IN :closed ORDER BY t.dueDate, t.id")
+    Slice<Task> findOpenDueBetweenForProject(@Param("projectId") Long projectId, @Param("from") LocalDate from,
+                                             @Param("to") LocalDate to, @Param("closed") Collection<TaskStatus> closed,
+                                             Pageable pageable);
+
+    @EntityGraph(attributePaths = {"project", "assignedUser"})
+    @Query("SELECT t FROM Task t WHERE t.project.id = :projectId AND t.dueDate < :before " +
+           "AND t.status NOT IN :closed ORDER BY t.dueDate, t.id")
+    Slice<Task> findOpenDueBeforeForProject(@Param("projectId") Long projectId, @Param("before") LocalDate before,
+                                            @Param("closed") Collection<TaskStatus> closed, Pageable pageable);
+
+    /** A board column: one status of one project. */
+    interface ColumnKey {
+        Long getProjectId();
+        TaskStatus getStatus();
+    }
+
+    String INDEX_ROW = "SELECT t.id AS id, t.project.id AS projectId, t.id AS taskId, " +
+                       "t.title AS title, t.description AS body FROM Task t ";
+
+    /** Search index rows in id order, for streaming the whole table in chunks. */
+    @Query(INDEX_ROW + "WHERE t.id > :afterId ORDER BY t.id")
+    List<IndexRow> findIndexRows(@Param("afterId") Long afterId, Limit limit);
+
+    @Query(INDEX_ROW + "WHERE t.id = :id")
+    Optional<IndexRow> findIndexRow(@Param("id") Long id);
+
+    /** One row of the board query: a card id, its column and the column's size. */
+    interface BoardSlot {
+        Long getId();
+        String getStatus();
+        Long getTotal();
+    }
+
+    /**
+     * The first {@code perColumn} task ids of every status column of a project,
+     * in rank order, each row carrying its column's total, in a single pass over
+     * idx_tasks_project_status_rank. Empty columns produce no rows.
+     */
+    @Query(value = "SELECT x.id AS id, x.status AS status, x.total AS total FROM (" +
+                   "  SELECT t.id, t.status," +
+                   "         ROW_NUMBER() OVER (PARTITION BY t.status ORDER BY t.board_rank, t.id) AS rn," +
+                   "         COUNT(*) OVER (PARTITION BY t.status) AS total" +
+                   "  FROM tasks t WHERE t.project_id = :projectId" +
+                   ") x WHERE x.rn <= :perColumn ORDER BY x.status, x.rn",
+           nativeQuery = true)
+    List<BoardSlot> findBoardSlots(@Param("projectId") Long projectId, @Param("perColumn") int perColumn);
+
+    @EntityGraph(attributePaths = {"project", "assignedUser"})
+    @Query("SELECT t FROM Task t WHERE t.id IN :ids")
+    List<Task> findWithAssigneeByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** Next cards of one board column after the keyset cursor (rank, id), exclusive. */
+    @EntityGraph(attributePaths = {"project", "assignedUser"})
+    @Query("SELECT t FROM Task t WHERE t.project.id = :projectId AND t.status = :status " +
+           "AND (t.rank > :afterRank OR (t.rank = :afterRank AND t.id > :afterId)) ORDER BY t.rank, t.id")
+    Slice<Task> findColumnPage(@Param("projectId") Long projectId, @Param("status") TaskStatus status,
+                               @Param("afterRank") String afterRank, @Param("afterId") Long afterId,
+                               Pageable pageable);
+
+    /** Last rank of a column, where new and moved-in cards are appended; null if the column is empty. */
+    @Query("SELECT MAX(t.rank) FROM Task t WHERE t.project.id = :projectId AND t.status = :status")
+    String findMaxRank(@Param("projectId") Long projectId, @Param("status") TaskStatus status);
+
+    /** First rank after {@code afterRank} in a column, ignoring one task; null if there is none. */
+    @Query("SELECT MIN(t.rank) FROM Task t WHERE t.project.id = :projectId AND t.status = :status " +
+           "AND t.rank > :afterRank AND t.id <> :excludeId")
+    String findNextRank(@Param("projectId") Long projectId, @Param("status") TaskStatus status,
+                        @Param("afterRank") String afterRank, @Param("excludeId") Long excludeId);
+
+    /**
+     * Ids of a column in rank order, unranked cards last. A locking read: it sees
+     * the latest committed rows and holds them, and the column's index range,
+     * until the transaction ends, so no move can interleave with a rebalance.
+     */
+    @Query(value = "SELECT t.id FROM tasks t WHERE t.project_id = :projectId AND t.status = :status " +
+                   "ORDER BY CASE WHEN t.board_rank IS NULL THEN 1 ELSE 0 END, t.board_rank, t.id FOR UPDATE",
+           nativeQuery = true)
+    List<Long> lockColumnIdsInRankOrder(@Param("projectId") Long projectId, @Param("status") String status);
+
+    @Query("SELECT DISTINCT t.project.id AS projectId, t.status AS status FROM Task t WHERE t.rank IS NULL")
+    List<ColumnKey> findColumnsWithUnrankedTasks();
+
+    @Query("SELECT DISTINCT t.project.id AS projectId, t.status AS status FROM Task t WHERE t.rank IS NOT NULL")
+    List<ColumnKey> findColumnsWithRankedTasks();
+
+    /** A task's due date, for scheduling its dependencies. */
+    interface TaskDue {
+        Long getId();
+        LocalDate getDueDate();
+    }
+
+    @Query("SELECT t.id AS id, t.dueDate AS dueDate FROM Task t WHERE t.id IN :ids")
+    List<TaskDue> findDueDates(@Param("ids") Collection<Long> ids);
+
+    /** An open, assigned task whose due date reminder has not been sent. */
+    interface ReminderCandidate {
+        Long getId();
+        LocalDate getDueDate();
+    }
+
+    String REMINDER_CANDIDATE = "SELECT t.id AS id, t.dueDate AS dueDate FROM Task t " +
+        "WHERE t.assignedUser IS NOT NULL AND t.status NOT IN :closed " +
+        "AND (t.reminderSentFor IS NULL OR t.reminderSentFor <> t.dueDate) ";
+
+    /**
+     * Reminder candidates due in [from, to] after the keyset cursor (dueDate, id),
+     * in that order, over idx_tasks_due
+     */
+    @Query(REMINDER_CANDIDATE + "AND t.dueDate >= :from AND t.dueDate <= :to " +
+           "AND (t.dueDate > :afterDue OR (t.dueDate = :afterDue AND t.id > :afterId)) ORDER BY t.dueDate, t.id")
+    List<ReminderCandidate> findReminderCandidates(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                                   @Param("afterDue") LocalDate afterDue, @Param("afterId") Long afterId,
+                                                   @Param("closed") Collection<TaskStatus> closed, Limit limit);
+
+    @Query(REMINDER_CANDIDATE + "AND t.id = :id")
+    Optional<ReminderCandidate> findReminderCandidate(@Param("id") Long id, @Param("closed") Collection<TaskStatus> closed);
+
+    /**
+     * Compare-and-set move: sets the card's rank and column in one row update,
+     * only if the row still has the given version. {@code startedAt} is kept if already set.
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.rank = :rank, t.status = :status, t.startedAt = COALESCE(t.startedAt, :startedAt), " +
+           "t.version = t.version + 1 WHERE t.id = :id AND t.version = :version")
+    int moveTask(@Param("id") Long id, @Param("status") TaskStatus status, @Param("rank") String rank,
+                 @Param("startedAt") LocalDateTime startedAt, @Param("version") Long version);
+
+    long countByProjectIdAndStatus(Long projectId, TaskStatus status);
+
+    @Query("SELECT t.project.id FROM Task t WHERE t.id = :id")
+    Optional<Long> findProjectIdById(@Param("id") Long id);
+
+    /**
+     * Compare-and-set status update: only applies if the row still has the given
+     * version, and bumps it. Returns 0 when another writer got there first.
+     * {@code startedAt} is kept if already set.
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.status = :status, t.rank = :rank, t.startedAt = COALESCE(t.startedAt, :startedAt), " +
+           "t.version = t.version + 1 WHERE t.id = :id AND t.version = :version")
+    int updateStatus(@Param("id") Long id, @Param("status") TaskStatus status, @Param("rank") String rank,
+                     @Param("startedAt") LocalDateTime startedAt, @Param("version") Long version);
+
+    /**
+     * Compare-and-set reassignment, like {@link #updateStatus}: returns 0 when the
+     * row no longer has the given version.
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.assignedUser = :assignee, t.status = :status, t.rank = :rank, " +
+           "t.version = t.version + 1 WHERE t.id = :id AND t.version = :version")
+    int updateAssignee(@Param("id") Long id, @Param("assignee") User assignee, @Param("status") TaskStatus status,
+                       @Param("rank") String rank, @Param("version") Long version);
+
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id = :id")
+    int deleteTaskById(@Param("id") Long id);
 }
@@ -0,0 +1,15 @@
+package com.taskbuddy.search;
+
+/**
+ * The columns of a task, project or comment that go into the search index,
+ * read as a projection so indexing never loads whole entities.
+ */
+public interface IndexRow {
+    Long getId();
+    Long getProjectId();
+    /** The task a comment belongs to, the task itself for tasks, null for projects and project comments. */
+    Long getTaskId();
+    /** Display title: task title, project name, or for comments the title of what they are attached to. */
+    String getTitle();
+    String getBody();
+}
@@ -0,0 +1,253 @@
+package com.taskbuddy.search;
+
+import com.taskbuddy.dto.QuickSwitchItemDto;
+import com.taskbuddy.enums.SearchType;
+import com.taskbuddy.repository.ProjectRepository;
+import com.taskbuddy.repository.TaskRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory prefix index of project names and task titles for the quick switcher.
+ *
+ * <p>Each project has its own sorted map from every word of every name in it to
+ * the named item, so a lookup only visits the projects of the requesting user
+ * and, within them, only the keys that start with the typed prefix. All typed
+ * words must be prefixes of words in the name ({@code "bi ro"} finds
+ * "Build big rocket"). The index is loaded from the database on startup and kept
+ * current from committed project and task events.</p>
+ *
+ * <p>Memory use is reported as {@code taskbuddy.quickswitch.memory}, an estimate
+ * from the number of keys and characters held.</p>
+ */
+@Component
+@Slf4j
+public class QuickSwitchIndex {
+
+    private record Entry(SearchType type, Long id, Long projectId, String name, String normalized, List<String> words) {
+    }
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    // candidates examined per project before ranking, bounding work for very short prefixes
+    private static final int CANDIDATES_PER_LIMIT = 8;
+    // rough per-object overheads of skip list nodes, strings and records on a 64-bit JVM
+    private static final int KEY_OVERHEAD_BYTES = 96;
+    private static final int ENTRY_OVERHEAD_BYTES = 160;
+
+    private final Map<Long, NavigableMap<String, Entry>> byProject = new ConcurrentHashMap<>();
+    private final Map<String, Entry> byId = new ConcurrentHashMap<>();
+    private final AtomicLong estimatedBytes = new AtomicLong();
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final int chunkSize;
+    // ids removed while the startup load runs, so it cannot bring them back
+    private Set<String> removedDuringLoad;
+
+    public QuickSwitchIndex(TaskRepository taskRepository,
+                            ProjectRepository projectRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${taskbuddy.search.rebuild-chunk-size:1000}") int chunkSize) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.chunkSize = chunkSize;
+        Gauge.builder("taskbuddy.quickswitch.entries", byId, Map::size)
+            .description("Projects and tasks in the quick switcher index")
+            .register(meterRegistry);
+        Gauge.builder("taskbuddy.quickswitch.memory", estimatedBytes, AtomicLong::get)
+            .description("Estimated heap used by the quick switcher index")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    public void put(SearchType type, Long id, Long projectId, String name) {
+        put(new Entry(type, id, projectId, name, normalize(name), words(name)), false);
+    }
+
+    private synchronized void put(Entry entry, boolean loading) {
+        String id = id(entry.type(), entry.id());
+        if (loading && (byId.containsKey(id) || removedDuringLoad.contains(id))) {
+            // a newer version arrived through an event while the load was running
+            return;
+        }
+        remove(id);
+        NavigableMap<String, Entry> keys = byProject.computeIfAbsent(entry.projectId(), p -> new ConcurrentSkipListMap<>());
+        for (String word : entry.words()) {
+            keys.put(key(word, id), entry);
+        }
+        byId.put(id, entry);
+        estimatedBytes.addAndGet(size(entry, id));
+    }
+
+    public synchronized void remove(SearchType type, Long id) {
+        String key = id(type, id);
+        remove(key);
+        if (removedDuringLoad != null) {
+            removedDuringLoad.add(key);
+        }
+    }
+
+    private void remove(String id) {
+        Entry old = byId.remove(id);
+        if (old == null) {
+            return;
+        }
+        NavigableMap<String, Entry> keys = byProject.get(old.projectId());
+        if (keys != null) {
+            for (String word : old.words()) {
+                keys.remove(key(word, id));
+            }
+        }
+        estimatedBytes.addAndGet(-size(old, id));
+    }
+
+    /** Removes a project together with all of its tasks. */
+    public synchronized void removeProject(Long projectId) {
+        NavigableMap<String, Entry> keys = byProject.remove(projectId);
+        if (keys == null) {
+            return;
+        }
+        for (Entry entry : new HashSet<>(keys.values())) {
+            String id = id(entry.type(), entry.id());
+            byId.remove(id);
+            estimatedBytes.addAndGet(-size(entry, id));
+            if (removedDuringLoad != null) {
+                removedDuringLoad.add(id);
+            }
+        }
+    }
+
+    /**
+     * Best matches first: names starting with the typed text, then projects
+     * before tasks, then shorter names.
+     * @param projectIds projects whose names and tasks may be returned
+     */
+    public List<QuickSwitchItemDto> lookup(String query, Collection<Long> projectIds, int limit) {
+        String normalized = normalize(query);
+        List<String> typed = words(query);
+        if (typed.isEmpty()) {
+            return List.of();
+        }
+        // the longest typed word narrows the key range the most
+        String probe = typed.stream().max(Comparator.comparingInt(String::length)).orElseThrow();
+
+        List<Entry> candidates = new ArrayList<>();
+        for (Long projectId : projectIds) {
+            NavigableMap<String, Entry> keys = byProject.get(projectId);
+            if (keys == null) {
+                continue;
+            }
+            Set<Entry> matches = new LinkedHashSet<>();
+            for (Entry entry : keys.subMap(probe, true, probe + Character.MAX_VALUE, true).values()) {
+                if (matchesAll(entry, typed) && matches.add(entry) && matches.size() >= limit * CANDIDATES_PER_LIMIT) {
+                    break;
+                }
+            }
+            candidates.addAll(matches);
+        }
+
+        return candidates.stream()
+            .sorted(Comparator.<Entry>comparingInt(e -> e.normalized().startsWith(normalized) ? 0 : 1)
+                .thenComparing(Entry::type, Comparator.comparingInt(t -> t == SearchType.PROJECT ? 0 : 1))
+                .thenComparingInt(e -> e.name().length())
+                .thenComparing(Entry::name))
+            .limit(limit)
+            .map(e -> new QuickSwitchItemDto(e.type(), e.id(), e.projectId(), e.name()))
+            .toList();
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        synchronized (this) {
+            removedDuringLoad = new HashSet<>();
+        }
+        long started = System.nanoTime();
+        try {
+            load(SearchType.PROJECT, projectRepository::findIndexRows);
+            load(SearchType.TASK, taskRepository::findIndexRows);
+        } finally {
+            synchronized (this) {
+                removedDuringLoad = null;
+            }
+        }
+        log.info("Loaded {} names into the quick switcher index in {} ms (~{} KiB)",
+            byId.size(), (System.nanoTime() - started) / 1_000_000, estimatedBytes.get() / 1024);
+    }
+
+    private void load(SearchType type, BiFunction<Long, Limit, List<IndexRow>> reader) {
+        long afterId = 0;
+        List<IndexRow> chunk;
+        do {
+            chunk = reader.apply(afterId, Limit.of(chunkSize));
+            for (IndexRow row : chunk) {
+                if (row.getTitle() != null) {
+                    put(new Entry(type, row.getId(), row.getProjectId(), row.getTitle(),
+                        normalize(row.getTitle()), words(row.getTitle())), true);
+                }
+                afterId = row.getId();
+            }
+        } while (chunk.size() == chunkSize);
+    }
+
+    private static boolean matchesAll(Entry entry, List<String> typed) {
+        for (String prefix : typed) {
+            if (entry.words().stream().noneMatch(word -> word.startsWith(prefix))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String normalize(String text) {
+        return text.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> words(String text) {
+        return WORD_SEPARATOR.splitAsStream(normalize(text))
+            .filter(word -> !word.isEmpty())
+            .distinct()
+            .toList();
+    }
+
+    // the id suffix keeps keys unique when several names share a word
+    private static String key(String word, String id) {
+        return word + '\0' + id;
+    }
+
+    private static String id(SearchType type, Long id) {
+        return type.name() + ":" + id;
+    }
+
+    private static long size(Entry entry, String id) {
+        long bytes = ENTRY_OVERHEAD_BYTES + 2L * (entry.name().length() + entry.normalized().length());
+        for (String word : entry.words()) {
+            bytes += KEY_OVERHEAD_BYTES + 2L * (word.length() + 1 + id.length());
+        }
+        return bytes;
+    }
+}
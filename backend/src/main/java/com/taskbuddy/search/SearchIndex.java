@@ -0,0 +1,289 @@
+package com.taskbuddy.search;
+
+import com.taskbuddy.dto.SearchHitDto;
+import com.taskbuddy.enums.SearchType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.uhighlight.DefaultPassageFormatter;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lucene index of task, project and comment text on local disk.
+ *
+ * <p>Writes go straight to the {@link IndexWriter}; searchers see them after the
+ * next refresh (every {@code refresh-interval-ms}) and they are made durable by
+ * the periodic commit and on shutdown. Every document carries its project id,
+ * so callers restrict hits to the projects a user belongs to with a filter
+ * clause instead of checking hits one by one.</p>
+ *
+ * <p>During a rebuild the old contents stay visible to searches until the new
+ * ones are complete. Deletes that arrive meanwhile are replayed at the end, so
+ * a row streamed just before its entity was deleted does not come back. A
+ * rebuild that fails is rolled back to the last commit, taken when it began,
+ * so a partial index is never made durable.</p>
+ */
+@Component
+@Slf4j
+public class SearchIndex {
+
+    static final String KEY = "key";
+    static final String TYPE = "type";
+    static final String ID = "id";
+    static final String PROJECT_ID = "projectId";
+    static final String TASK_ID = "taskId";
+    static final String TITLE = "title";
+    static final String BODY = "body";
+    // display title of comments, which are not searchable by the title of their task
+    static final String LABEL = "label";
+
+    private static final FieldType TEXT = new FieldType(TextField.TYPE_STORED);
+
+    static {
+        // offsets in the postings let the highlighter skip re-analysing stored text
+        TEXT.setIndexOptions(IndexOptions.DOCS_AND_FREQS_AND_POSITIONS_AND_OFFSETS);
+        TEXT.freeze();
+    }
+
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(TITLE, 2f, BODY, 1f);
+    private static final DefaultPassageFormatter FORMATTER = new DefaultPassageFormatter("<mark>", "</mark>", " … ", true);
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    // replaced when a failed rebuild is rolled back
+    private volatile IndexWriter writer;
+    private volatile SearcherManager searcherManager;
+    private final AtomicBoolean changed = new AtomicBoolean();
+    private List<Query> deletesDuringRebuild;
+
+    public SearchIndex(@Value("${taskbuddy.search.directory:search-index}") String path) throws IOException {
+        this.directory = FSDirectory.open(Path.of(path));
+        open();
+        log.info("Search index at {} holds {} documents", Path.of(path).toAbsolutePath(), documentCount());
+    }
+
+    public int documentCount() {
+        return writer.getDocStats().numDocs;
+    }
+
+    public void index(SearchType type, IndexRow row) {
+        try {
+            writer.updateDocument(new Term(KEY, key(type, row.getId())), document(type, row));
+            changed.set(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(SearchType type, Long id) {
+        delete(new TermQuery(new Term(KEY, key(type, id))));
+    }
+
+    /** Removes a task together with its comments. */
+    public void deleteTask(Long taskId) {
+        delete(LongPoint.newExactQuery(TASK_ID, taskId));
+    }
+
+    /** Removes a project with everything in it. */
+    public void deleteProject(Long projectId) {
+        delete(LongPoint.newExactQuery(PROJECT_ID, projectId));
+    }
+
+    private synchronized void delete(Query query) {
+        try {
+            writer.deleteDocuments(query);
+            changed.set(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (deletesDuringRebuild != null) {
+            deletesDuringRebuild.add(query);
+        }
+    }
+
+    /** Empties the index for a rebuild; searches keep the old contents until {@link #finishRebuild()}. */
+    synchronized void beginRebuild() throws IOException {
+        // the rollback point if the rebuild fails
+        writer.commit();
+        deletesDuringRebuild = new ArrayList<>();
+        writer.deleteAll();
+    }
+
+    synchronized void finishRebuild() throws IOException {
+        for (Query query : deletesDuringRebuild) {
+            writer.deleteDocuments(query);
+        }
+        writer.commit();
+        deletesDuringRebuild = null;
+        searcherManager.maybeRefresh();
+    }
+
+    /**
+     * Discards a failed rebuild, and any change indexed while it ran, by rolling
+     * back to the commit taken in {@link #beginRebuild()} and reopening the writer.
+     */
+    synchronized void abortRebuild() throws IOException {
+        SearcherManager searchers = searcherManager;
+        try {
+            // also closes the writer
+            writer.rollback();
+        } finally {
+            deletesDuringRebuild = null;
+            searchers.close();
+            open();
+        }
+    }
+
+    private synchronized boolean rebuilding() {
+        return deletesDuringRebuild != null;
+    }
+
+    /**
+     * Ranked hits for a query in simple query syntax ({@code "phrase"}, {@code -not},
+     * {@code prefix*}, {@code a | b}); all terms are required by default.
+     * @param projectIds projects whose documents may be returned
+     * @param type restricts hits to one kind of document, or null for all
+     */
+    public List<SearchHitDto> search(String text, long[] projectIds, SearchType type, int limit) {
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, FIELD_BOOSTS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query textQuery = parser.parse(text);
+        if (textQuery == null || projectIds.length == 0) {
+            return List.of();
+        }
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+            .add(textQuery, BooleanClause.Occur.MUST)
+            .add(LongPoint.newSetQuery(PROJECT_ID, projectIds), BooleanClause.Occur.FILTER);
+        if (type != null) {
+            query.add(new TermQuery(new Term(TYPE, type.name())), BooleanClause.Occur.FILTER);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs top = searcher.search(query.build(), limit);
+                Map<String, String[]> highlights = UnifiedHighlighter.builder(searcher, analyzer)
+                    .withFormatter(FORMATTER)
+                    .build()
+                    .highlightFields(new String[] {TITLE, BODY}, textQuery, top, new int[] {1, 2});
+                StoredFields storedFields = searcher.storedFields();
+                List<SearchHitDto> hits = new ArrayList<>(top.scoreDocs.length);
+                for (int i = 0; i < top.scoreDocs.length; i++) {
+                    ScoreDoc scoreDoc = top.scoreDocs[i];
+                    Document doc = storedFields.document(scoreDoc.doc);
+                    String title = highlights.get(TITLE)[i];
+                    if (title == null && doc.get(LABEL) != null) {
+                        title = HtmlUtils.htmlEscape(doc.get(LABEL));
+                    }
+                    hits.add(new SearchHitDto(SearchType.valueOf(doc.get(TYPE)),
+                        longValue(doc, ID), longValue(doc, PROJECT_ID), longValue(doc, TASK_ID),
+                        title, highlights.get(BODY)[i], scoreDoc.score));
+                }
+                return hits;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${taskbuddy.search.refresh-interval-ms:1000}")
+    public void refresh() throws IOException {
+        if (!rebuilding() && changed.getAndSet(false)) {
+            searcherManager.maybeRefresh();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${taskbuddy.search.commit-interval-ms:60000}", initialDelay = 60_000)
+    public void commit() throws IOException {
+        if (!rebuilding() && writer.hasUncommittedChanges()) {
+            writer.commit();
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        searcherManager.close();
+        if (rebuilding()) {
+            // never make a half-built index durable
+            writer.rollback();
+        } else {
+            // commits on close
+            writer.close();
+        }
+        directory.close();
+    }
+
+    private void open() throws IOException {
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    private static Document document(SearchType type, IndexRow row) {
+        Document doc = new Document();
+        doc.add(new StringField(KEY, key(type, row.getId()), Field.Store.NO));
+        doc.add(new StringField(TYPE, type.name(), Field.Store.YES));
+        doc.add(new StoredField(ID, row.getId()));
+        doc.add(new LongPoint(PROJECT_ID, row.getProjectId()));
+        doc.add(new StoredField(PROJECT_ID, row.getProjectId()));
+        if (row.getTaskId() != null) {
+            doc.add(new LongPoint(TASK_ID, row.getTaskId()));
+            doc.add(new StoredField(TASK_ID, row.getTaskId()));
+        }
+        if (row.getTitle() != null) {
+            doc.add(type == SearchType.COMMENT
+                ? new StoredField(LABEL, row.getTitle())
+                : new Field(TITLE, row.getTitle(), TEXT));
+        }
+        if (row.getBody() != null) {
+            doc.add(new Field(BODY, row.getBody(), TEXT));
+        }
+        return doc;
+    }
+
+    private static Long longValue(Document doc, String field) {
+        var value = doc.getField(field);
+        return value != null ? value.numericValue().longValue() : null;
+    }
+
+    private static String key(SearchType type, Long id) {
+        return type.name() + ":" + id;
+    }
+}
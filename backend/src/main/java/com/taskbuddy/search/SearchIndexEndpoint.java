@@ -0,0 +1,34 @@
+package com.taskbuddy.search;
+
+import lombok.AllArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Operator command for the search index: {@code GET /actuator/searchindex} reports
+ * its size, {@code POST /actuator/searchindex} starts a full rebuild. Like other
+ * actuator endpoints it is only reachable once listed in
+ * {@code management.endpoints.web.exposure.include}.
+ */
+@Component
+@Endpoint(id = "searchindex")
+@AllArgsConstructor
+public class SearchIndexEndpoint {
+
+    private final SearchIndex index;
+    private final SearchIndexer indexer;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return Map.of("documents", index.documentCount(), "rebuilding", indexer.isRebuilding());
+    }
+
+    @WriteOperation
+    public Map<String, Object> rebuild() {
+        return Map.of("started", indexer.rebuild());
+    }
+}
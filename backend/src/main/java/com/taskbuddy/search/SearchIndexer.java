@@ -0,0 +1,155 @@
+package com.taskbuddy.search;
+
+import com.taskbuddy.enums.SearchType;
+import com.taskbuddy.repository.CommentRepository;
+import com.taskbuddy.repository.ProjectRepository;
+import com.taskbuddy.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Reads rows from the database into the {@link SearchIndex}: one entity at a
+ * time after a change, or every table in keyset-paged chunks for a rebuild, so
+ * memory stays bounded however large the tables are. An empty index (first
+ * start, or a deleted index directory) is rebuilt automatically on startup.
+ * Project and task names read on change also go to the {@link QuickSwitchIndex}.
+ */
+@Component
+@Slf4j
+public class SearchIndexer {
+
+    private final SearchIndex index;
+    private final QuickSwitchIndex quickSwitchIndex;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final CommentRepository commentRepository;
+    private final int chunkSize;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    public SearchIndexer(SearchIndex index,
+                         QuickSwitchIndex quickSwitchIndex,
+                         TaskRepository taskRepository,
+                         ProjectRepository projectRepository,
+                         CommentRepository commentRepository,
+                         @Value("${taskbuddy.search.rebuild-chunk-size:1000}") int chunkSize) {
+        this.index = index;
+        this.quickSwitchIndex = quickSwitchIndex;
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.commentRepository = commentRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    public void reindexTask(Long taskId) {
+        reindex(SearchType.TASK, taskId, taskRepository::findIndexRow, true);
+    }
+
+    public void reindexProject(Long projectId) {
+        reindex(SearchType.PROJECT, projectId, projectRepository::findIndexRow, true);
+    }
+
+    public void reindexComment(Long commentId) {
+        reindex(SearchType.COMMENT, commentId, commentRepository::findIndexRow, false);
+    }
+
+    /** Removes a task together with its comments. */
+    public void removeTask(Long taskId) {
+        index.deleteTask(taskId);
+        quickSwitchIndex.remove(SearchType.TASK, taskId);
+    }
+
+    /** Removes a project with everything in it. */
+    public void removeProject(Long projectId) {
+        index.deleteProject(projectId);
+        quickSwitchIndex.removeProject(projectId);
+    }
+
+    public void removeComment(Long commentId) {
+        index.delete(SearchType.COMMENT, commentId);
+    }
+
+    // a row that is gone by the time the event is handled was deleted in the meantime
+    private void reindex(SearchType type, Long id, Function<Long, Optional<IndexRow>> reader, boolean named) {
+        reader.apply(id).ifPresentOrElse(row -> {
+            index.index(type, row);
+            if (named && row.getTitle() != null) {
+                quickSwitchIndex.put(type, id, row.getProjectId(), row.getTitle());
+            }
+        }, () -> {
+            index.delete(type, id);
+            if (named) {
+                quickSwitchIndex.remove(type, id);
+            }
+        });
+    }
+
+    public boolean isRebuilding() {
+        return rebuilding.get();
+    }
+
+    /**
+     * Start rebuilding the whole index in the background.
+     * @return false if a rebuild is already running
+     */
+    public boolean rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread.ofVirtual().name("search-rebuild").start(() -> {
+            try {
+                long started = System.nanoTime();
+                index.beginRebuild();
+                long count = stream(SearchType.PROJECT, projectRepository::findIndexRows)
+                    + stream(SearchType.TASK, taskRepository::findIndexRows)
+                    + stream(SearchType.COMMENT, commentRepository::findIndexRows);
+                index.finishRebuild();
+                log.info("Rebuilt search index with {} documents in {} ms", count, (System.nanoTime() - started) / 1_000_000);
+            } catch (IOException | RuntimeException e) {
+                log.error("Search index rebuild failed; rolling back to the last commit", e);
+                try {
+                    index.abortRebuild();
+                } catch (IOException | RuntimeException rollbackFailure) {
+                    log.error("Search index rollback failed", rollbackFailure);
+                }
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+        return true;
+    }
+
+    private long stream(SearchType type, BiFunction<Long, Limit, List<IndexRow>> reader) {
+        long count = 0;
+        long afterId = 0;
+        List<IndexRow> chunk;
+        do {
+            chunk = reader.apply(afterId, Limit.of(chunkSize));
+            for (IndexRow row : chunk) {
+                index.index(type, row);
+            }
+            count += chunk.size();
+            if (!chunk.isEmpty()) {
+                afterId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == chunkSize);
+        return count;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (index.documentCount() == 0) {
+            rebuild();
+        }
+    }
+}
@@ -27,9 +27,7 @@ public class AuthSecurity {
      * Resolve a task's project id; useful for SpEL expressions.
      */
     public Long taskProjectId(Long taskId) {
-        return taskRepository.findById(taskId)
-            .map(t -> t.getProject().getId())
-            .orElse(null);
+        return taskRepository.findProjectIdById(taskId).orElse(null);
     }
 
     /**
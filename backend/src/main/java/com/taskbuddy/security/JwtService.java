@@ -63,6 +63,18 @@ public class JwtService {
         }
     }
 
+    /**
+     * Subject of a token with a valid signature that has not expired, or null.
+     * Needs no user lookup, so it is cheap enough to run ahead of authentication.
+     */
+    public String extractVerifiedSubject(String token) {
+        try {
+            return extractUsername(token);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     public boolean isTokenExpired(String token) {
         Date exp = extractExpiration(token);
         return exp.before(new Date());
@@ -21,8 +21,7 @@ public class AuthorizationService {
     }
 
     public void checkTaskAccess(Long taskId, Long userId) {
-        Long projectId = taskRepository.findById(taskId)
-            .map(task -> task.getProject().getId())
+        Long projectId = taskRepository.findProjectIdById(taskId)
             .orElseThrow(() -> new SecurityException("Task not found"));
         checkProjectAccess(projectId, userId);
     }
@@ -1,23 +1,40 @@
 package com.taskbuddy.service;
 
+import com.taskbuddy.mail.MailDispatcher;
+import com.taskbuddy.mail.MailTemplate;
+import com.taskbuddy.mail.MailTemplates;
 import org.springframework.beans.factory.annotation.Value;
-// import org.springframework.mail.SimpleMailMessage;
-// import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
-// import lombok.RequiredArgsConstructor;
 
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Renders application emails from the pre-compiled templates and hands them to
+ * the {@link MailDispatcher}, so callers never wait on the mail server.
+ */
 @Service
 public class EmailService {
-    
-    @Value("${spring.mail.username:taskbuddy@example.com}")
-    private String fromEmail;
-    
+
+    private final MailTemplates templates;
+    private final MailDispatcher dispatcher;
+    private final long otpTtlMinutes;
+
+    public EmailService(MailTemplates templates,
+                        MailDispatcher dispatcher,
+                        @Value("${taskbuddy.otp.ttl:10m}") Duration otpTtl) {
+        this.templates = templates;
+        this.dispatcher = dispatcher;
+        this.otpTtlMinutes = otpTtl.toMinutes();
+    }
+
     public void sendOTP(String toEmail, String otp) {
-        // Console OTP for development (email disabled to prevent login issues)
-        System.out.println("\n=== PASSWORD RESET OTP ===");
-        System.out.println("Email: " + toEmail);
-        System.out.println("OTP: " + otp);
-        System.out.println("Expires in: 10 minutes");
-        System.out.println("==========================\n");
+        dispatcher.enqueue(templates.render(MailTemplate.PASSWORD_RESET_OTP, toEmail,
+            Map.of("otp", otp, "ttlMinutes", otpTtlMinutes)));
+    }
+
+    public void sendProjectInvitation(String toEmail, String username, String projectName, String inviterName) {
+        dispatcher.enqueue(templates.render(MailTemplate.PROJECT_INVITATION, toEmail,
+            Map.of("username", username, "projectName", projectName, "inviterName", inviterName)));
     }
-}
\ No newline at end of file
+}
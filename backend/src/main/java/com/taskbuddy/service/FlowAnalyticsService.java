@@ -0,0 +1,33 @@
+package com.taskbuddy.service;
+
+import com.taskbuddy.dto.ApiResponse;
+import com.taskbuddy.dto.BurndownDayDto;
+import com.taskbuddy.dto.FlowTimesDto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Service interface for project flow analytics
+ * Answers from the precomputed daily rollups only
+ */
+public interface FlowAnalyticsService {
+
+    /**
+     * Get the daily task counts per status of a project
+     * @param projectId the project ID
+     * @param from first day, inclusive
+     * @param to last day, inclusive
+     * @return ApiResponse containing one entry per day
+     */
+    ApiResponse<List<BurndownDayDto>> getBurndown(Long projectId, LocalDate from, LocalDate to);
+
+    /**
+     * Get lead and cycle time statistics of the tasks completed in a period
+     * @param projectId the project ID
+     * @param from first day, inclusive
+     * @param to last day, inclusive
+     * @return ApiResponse containing the statistics
+     */
+    ApiResponse<FlowTimesDto> getFlowTimes(Long projectId, LocalDate from, LocalDate to);
+}
@@ -2,7 +2,9 @@ package com.taskbuddy.service;
 
 import com.taskbuddy.dto.ApiResponse;
 import com.taskbuddy.dto.NotificationDto;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service interface for managing notifications within the application.
@@ -14,6 +16,14 @@ import java.util.List;
  */
 public interface NotificationService {
 
+    /** Comments on one task or project, as a line of a digest. */
+    record CommentDigestItem(String entityName, int count) {
+    }
+
+    /** A task in a due date reminder. */
+    record DueTask(String title, LocalDate dueDate) {
+    }
+
     /**
      * Create a generic notification for a user.
      *
@@ -83,6 +93,25 @@ public interface NotificationService {
      */
     void notifyNewComment(Long userId, String entityName, String commenterName);
 
+    /**
+     * Notify a user about several comments on the same task or project with a
+     * single notification (used by comment coalescing).
+     *
+     * @param userId         the ID of the user being notified
+     * @param entityName     the name of the entity (task or project)
+     * @param count          the number of comments
+     * @param commenterNames the distinct commenters, in order of first comment
+     */
+    void notifyNewComments(Long userId, String entityName, int count, List<String> commenterNames);
+
+    /**
+     * Send a user one digest notification covering comments on several entities.
+     *
+     * @param userId  the ID of the user being notified
+     * @param items   one item per task or project, in order of first comment; names may repeat
+     */
+    void notifyCommentDigest(Long userId, List<CommentDigestItem> items);
+
     /**
      * Notify the owner of a project that a user has accepted their invitation.
      *
@@ -91,4 +120,12 @@ public interface NotificationService {
      * @param projectName the name of the project
      */
     void notifyInvitationAccepted(Long ownerId, String userName, String projectName);
+
+    /**
+     * Remind an assignee of tasks whose due date is approaching, in one notification.
+     *
+     * @param userId        the ID of the assignee
+     * @param tasksById     the tasks keyed by task id, soonest first; titles may repeat
+     */
+    void notifyTasksDueSoon(Long userId, Map<Long, DueTask> tasksById);
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.taskbuddy.service;
+
+/**
+ * Storage for password reset one-time passwords.
+ *
+ * <p>Selected with {@code taskbuddy.otp.store}: {@code memory} (default) keeps
+ * OTPs in an expiring in-process map, {@code database} keeps them in
+ * {@code password_reset_tokens} and is needed when several backend instances
+ * share the reset flow.</p>
+ */
+public interface OtpStore {
+
+    /**
+     * Store a new OTP for the email, replacing any earlier one. It expires after
+     * {@code taskbuddy.otp.ttl}.
+     *
+     * @param email the account email
+     * @param otp   the generated one-time password
+     */
+    void put(String email, String otp);
+
+    /**
+     * Check an OTP and, if it matches and has not expired, invalidate it.
+     *
+     * @param email the account email
+     * @param otp   the OTP supplied by the user
+     * @return {@code true} if the OTP was valid (it cannot be used again)
+     */
+    boolean consume(String email, String otp);
+}
@@ -3,57 +3,61 @@ package com.taskbuddy.service;
 import com.taskbuddy.dto.*;
 import com.taskbuddy.entity.*;
 import com.taskbuddy.repository.*;
+import com.taskbuddy.ratelimit.PasswordResetRateLimiter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.util.Random;
+import java.security.SecureRandom;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Slf4j
 public class PasswordResetService {
+
+    // Shared: SecureRandom is thread-safe and costly to seed per request
+    private static final SecureRandom OTP_RANDOM = new SecureRandom();
     
     private final UserRepository userRepository;
-    private final PasswordResetTokenRepository tokenRepository;
+    private final OtpStore otpStore;
+    private final PasswordResetRateLimiter rateLimiter;
     private final EmailService emailService;
     private final PasswordEncoder passwordEncoder;
     
-    public ApiResponse<String> requestPasswordReset(ForgotPasswordRequestDTO request) {
+    public ApiResponse<String> requestPasswordReset(ForgotPasswordRequestDTO request, String clientIp) {
+        // Throttle before touching the database
+        rateLimiter.check(request.getEmail(), clientIp);
         try {
             User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new RuntimeException("User not found with email: " + request.getEmail()));
             
             // Generate 6-digit OTP
-            String otp = String.format("%06d", new Random().nextInt(999999));
+            String otp = String.format("%06d", OTP_RANDOM.nextInt(1_000_000));
             
-            // Save OTP token
-            PasswordResetToken token = new PasswordResetToken();
-            token.setEmail(request.getEmail());
-            token.setOtp(otp);
-            token.setExpiryTime(LocalDateTime.now().plusMinutes(10));
-            tokenRepository.save(token);
+            // Store OTP (replaces any earlier one for this email)
+            otpStore.put(request.getEmail(), otp);
             
             // Send OTP via email (development mode - logs to console)
             emailService.sendOTP(request.getEmail(), otp);
             
             return new ApiResponse<>(true, "OTP sent to your email (check console in development)", null);
         } catch (Exception e) {
-            System.err.println("Error in password reset request: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error in password reset request for {}: {}", request.getEmail(), e.getMessage(), e);
             return new ApiResponse<>(false, "Failed to process password reset request: " + e.getMessage(), null);
         }
     }
     
-    public ApiResponse<String> resetPassword(ResetPasswordRequestDTO request) {
+    public ApiResponse<String> resetPassword(ResetPasswordRequestDTO request, String clientIp) {
+        // Also bounds OTP guessing
+        rateLimiter.check(request.getEmail(), clientIp);
         try {
-            // Validate OTP
-            PasswordResetToken token = tokenRepository
-                .findByEmailAndOtpAndUsedFalseAndExpiryTimeAfter(
-                    request.getEmail(), request.getOtp(), LocalDateTime.now())
-                .orElseThrow(() -> new RuntimeException("Invalid or expired OTP"));
+            // Validate OTP (single use)
+            if (!otpStore.consume(request.getEmail(), request.getOtp())) {
+                throw new RuntimeException("Invalid or expired OTP");
+            }
             
             // Update user password
             User user = userRepository.findByEmail(request.getEmail())
@@ -62,14 +66,9 @@ public class PasswordResetService {
             user.setPassword(passwordEncoder.encode(request.getNewPassword()));
             userRepository.save(user);
             
-            // Mark token as used
-            token.setUsed(true);
-            tokenRepository.save(token);
-            
             return new ApiResponse<>(true, "Password reset successfully", null);
         } catch (Exception e) {
-            System.err.println("Error in password reset: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error in password reset for {}: {}", request.getEmail(), e.getMessage(), e);
             return new ApiResponse<>(false, "Failed to reset password: " + e.getMessage(), null);
         }
     }
@@ -52,9 +52,10 @@ public interface ProjectService {
      * @param projectId the project ID
      * @param dto the updated project data
      * @param requestingUserId the ID of the user updating the project
+     * @param expectedVersion version the client last saw (If-Match), or null for an unconditional write
      * @return ApiResponse containing operation result
      */
-    ApiResponse<String> updateProject(Long projectId, ProjectDto dto, Long requestingUserId);
+    ApiResponse<String> updateProject(Long projectId, ProjectDto dto, Long requestingUserId, Long expectedVersion);
     
     /**
      * Delete project (Manager only)
@@ -87,9 +88,10 @@ public interface ProjectService {
      * @param projectId the project ID
      * @param status the new project status
      * @param requestingUserId the ID of the user updating the status
+     * @param expectedVersion version the client last saw (If-Match), or null for an unconditional write
      * @return ApiResponse containing operation result
      */
-    ApiResponse<String> updateProjectStatus(Long projectId, ProjectStatus status, Long requestingUserId);
+    ApiResponse<String> updateProjectStatus(Long projectId, ProjectStatus status, Long requestingUserId, Long expectedVersion);
     
     /**
      * Get projects associated with a user (both as manager and member)
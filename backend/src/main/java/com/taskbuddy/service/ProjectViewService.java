@@ -0,0 +1,19 @@
+package com.taskbuddy.service;
+
+import com.taskbuddy.dto.ApiResponse;
+import com.taskbuddy.dto.ProjectViewDto;
+
+/**
+ * Service interface for the aggregated project details view
+ */
+public interface ProjectViewService {
+
+    /**
+     * Get a project together with its members, its tasks and the caller's role.
+     * The caller must already be authorized for the project.
+     * @param projectId the project ID
+     * @param requestingUserId the ID of the user viewing the project
+     * @return ApiResponse containing the project view
+     */
+    ApiResponse<ProjectViewDto> getProjectView(Long projectId, Long requestingUserId);
+}
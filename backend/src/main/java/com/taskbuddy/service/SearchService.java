@@ -0,0 +1,34 @@
+package com.taskbuddy.service;
+
+import com.taskbuddy.dto.ApiResponse;
+import com.taskbuddy.dto.QuickSwitchItemDto;
+import com.taskbuddy.dto.SearchHitDto;
+import com.taskbuddy.enums.SearchType;
+
+import java.util.List;
+
+/**
+ * Service interface for full-text search
+ * Searches task, project and comment text within the user's projects
+ */
+public interface SearchService {
+
+    /**
+     * Search tasks, projects and comments the user can see
+     * @param query search text (simple query syntax: "phrase", -exclude, prefix*)
+     * @param type restrict results to one kind, or null for all
+     * @param limit maximum number of hits
+     * @param userId the ID of the searching user
+     * @return ApiResponse containing the hits, best match first
+     */
+    ApiResponse<List<SearchHitDto>> search(String query, SearchType type, int limit, Long userId);
+
+    /**
+     * Projects and tasks whose names start with the typed words, for the quick switcher
+     * @param query typed text; every word must prefix a word of the name
+     * @param limit maximum number of matches
+     * @param userId the ID of the typing user
+     * @return ApiResponse containing the best matches first
+     */
+    ApiResponse<List<QuickSwitchItemDto>> quickSwitch(String query, int limit, Long userId);
+}
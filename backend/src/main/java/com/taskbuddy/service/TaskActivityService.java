@@ -0,0 +1,30 @@
+package com.taskbuddy.service;
+
+import com.taskbuddy.dto.ApiResponse;
+import com.taskbuddy.dto.PageDto;
+import com.taskbuddy.dto.TaskActivityDto;
+
+/**
+ * Service interface for the task activity log
+ * Reads the field-level history of tasks, newest first
+ */
+public interface TaskActivityService {
+
+    /**
+     * Get the history of one task
+     * @param taskId the task ID
+     * @param page zero-based page number
+     * @param size page size
+     * @return ApiResponse containing a page of activity entries
+     */
+    ApiResponse<PageDto<TaskActivityDto>> getTaskActivity(Long taskId, int page, int size);
+
+    /**
+     * Get the history of all tasks in a project, including deleted ones
+     * @param projectId the project ID
+     * @param page zero-based page number
+     * @param size page size
+     * @return ApiResponse containing a page of activity entries
+     */
+    ApiResponse<PageDto<TaskActivityDto>> getProjectActivity(Long projectId, int page, int size);
+}
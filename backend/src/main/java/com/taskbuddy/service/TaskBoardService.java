@@ -0,0 +1,30 @@
+package com.taskbuddy.service;
+
+import com.taskbuddy.dto.ApiResponse;
+import com.taskbuddy.dto.BoardColumnDto;
+import com.taskbuddy.dto.TaskBoardDto;
+import com.taskbuddy.enums.TaskStatus;
+
+/**
+ * Service interface for the Kanban board view of a project's tasks
+ */
+public interface TaskBoardService {
+
+    /**
+     * Get every status column of a project with its count and first cards
+     * @param projectId the project ID
+     * @param perColumn number of cards to return per column
+     * @return ApiResponse containing the board
+     */
+    ApiResponse<TaskBoardDto> getBoard(Long projectId, int perColumn);
+
+    /**
+     * Get the next cards of one column
+     * @param projectId the project ID
+     * @param status the column
+     * @param cursor the column's {@code nextCursor} from the previous page, or null for the first page
+     * @param size number of cards to return
+     * @return ApiResponse containing the column page
+     */
+    ApiResponse<BoardColumnDto> getColumn(Long projectId, TaskStatus status, String cursor, int size);
+}
@@ -0,0 +1,44 @@
+package com.taskbuddy.service;
+
+import com.taskbuddy.dto.ApiResponse;
+import com.taskbuddy.dto.CriticalPathDto;
+import com.taskbuddy.dto.TaskDependenciesDto;
+
+/**
+ * Service interface for blocker / blocked-by links between tasks
+ * Links never form a cycle; schedules are derived from due dates
+ */
+public interface TaskDependencyService {
+
+    /**
+     * Mark a task as blocked by another task of the same project
+     * @param taskId the blocked task ID
+     * @param blockerTaskId the blocking task ID
+     * @param requestingUserId ID of the user making the change
+     * @return ApiResponse with success message
+     */
+    ApiResponse<String> addDependency(Long taskId, Long blockerTaskId, Long requestingUserId);
+
+    /**
+     * Remove a blocker from a task
+     * @param taskId the blocked task ID
+     * @param blockerTaskId the blocking task ID
+     * @param requestingUserId ID of the user making the change
+     * @return ApiResponse with success message
+     */
+    ApiResponse<String> removeDependency(Long taskId, Long blockerTaskId, Long requestingUserId);
+
+    /**
+     * Get a task's blockers and the tasks it blocks, with earliest finish dates
+     * @param taskId the task ID
+     * @return ApiResponse containing the task's dependencies
+     */
+    ApiResponse<TaskDependenciesDto> getDependencies(Long taskId);
+
+    /**
+     * Get the chain of tasks that decides the project's finish
+     * @param projectId the project ID
+     * @return ApiResponse containing the critical path and late tasks
+     */
+    ApiResponse<CriticalPathDto> getCriticalPath(Long projectId);
+}
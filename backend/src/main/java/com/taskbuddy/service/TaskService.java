@@ -1,7 +1,10 @@
 package com.taskbuddy.service;
 
 import com.taskbuddy.dto.ApiResponse;
+import com.taskbuddy.dto.MoveTaskDto;
+import com.taskbuddy.dto.PageDto;
 import com.taskbuddy.dto.TaskDto;
+import com.taskbuddy.enums.DueWindow;
 import com.taskbuddy.enums.TaskStatus;
 
 import java.util.List;
@@ -40,23 +43,58 @@ public interface TaskService {
      */
     ApiResponse<List<TaskDto>> getTasksByProjectId(Long projectId);
     
+    /**
+     * Get open tasks assigned to a user that are overdue, due today, or due within the next days
+     * @param userId the assignee ID
+     * @param window which due-date window to query
+     * @param days length of the UPCOMING window in days, starting today
+     * @param page zero-based page number
+     * @param size page size
+     * @return ApiResponse containing one page of tasks, earliest due date first
+     */
+    ApiResponse<PageDto<TaskDto>> getDueTasksForUser(Long userId, DueWindow window, int days, int page, int size);
+
+    /**
+     * Get open tasks of a project that are overdue, due today, or due within the next days
+     * @param projectId the project ID
+     * @param window which due-date window to query
+     * @param days length of the UPCOMING window in days, starting today
+     * @param page zero-based page number
+     * @param size page size
+     * @return ApiResponse containing one page of tasks, earliest due date first
+     */
+    ApiResponse<PageDto<TaskDto>> getDueTasksForProject(Long projectId, DueWindow window, int days, int page, int size);
+    
     /**
      * Update task details
      * @param taskId the task ID
      * @param taskDto the updated task data
      * @param requestingUserId the ID of the user updating the task
+     * @param expectedVersion version the client last saw (If-Match), or null for an unconditional write
      * @return ApiResponse containing operation result
      */
-    ApiResponse<String> updateTask(Long taskId, TaskDto taskDto, Long requestingUserId);
+    ApiResponse<String> updateTask(Long taskId, TaskDto taskDto, Long requestingUserId, Long expectedVersion);
     
     /**
      * Update task status (Assignee only)
      * @param taskId the task ID
      * @param status the new status
      * @param requestingUserId the ID of the user updating the status
+     * @param expectedVersion version the client last saw (If-Match), or null for an unconditional write
+     * @return ApiResponse containing operation result
+     */
+    ApiResponse<String> updateTaskStatus(Long taskId, TaskStatus status, Long requestingUserId, Long expectedVersion);
+    
+    /**
+     * Move a task to another position on the board, possibly into another column.
+     * Changing the column changes the status, which only the assignee may do.
+     * @param taskId the task ID
+     * @param move target column and the card to place the task after
+     * @param requestingUserId the ID of the user moving the task
+     * @param expectedVersion version the client last saw (If-Match), or null for an unconditional write
      * @return ApiResponse containing operation result
      */
-    ApiResponse<String> updateTaskStatus(Long taskId, TaskStatus status, Long requestingUserId);
+    ApiResponse<String> moveTask(Long taskId, MoveTaskDto move, Long requestingUserId, Long expectedVersion);
     
     /**
      * Delete task (Manager only)
@@ -17,9 +17,14 @@ import com.taskbuddy.dto.ApiResponse;
 import com.taskbuddy.exception.ResourceNotFoundException;
 import com.taskbuddy.exception.InvalidInputException;
 import com.taskbuddy.service.CommentService;
-import com.taskbuddy.service.NotificationService;
+import com.taskbuddy.event.CommentAdded;
+import com.taskbuddy.event.CommentDeleted;
+import com.taskbuddy.event.CommentEdited;
+import org.springframework.context.ApplicationEventPublisher;
 import com.taskbuddy.repository.ProjectMemberRepository;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -36,7 +41,7 @@ public class CommentServiceImpl implements CommentService {
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final ModelMapper modelMapper;
-    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
     private final ProjectMemberRepository projectMemberRepository;
 
     @Override
@@ -55,13 +60,11 @@ public class CommentServiceImpl implements CommentService {
         commentRepository.save(comment);
         
         // Notify project manager about new comment
-        if (!project.getManager().getId().equals(userId)) {
-            notificationService.notifyNewComment(
-                project.getManager().getId(),
-                project.getName(),
-                user.getUsername()
-            );
-        }
+        Set<Long> recipients = new LinkedHashSet<>();
+        recipients.add(project.getManager().getId());
+        recipients.remove(userId);
+        eventPublisher.publishEvent(new CommentAdded(projectId, comment.getId(), null, project.getName(),
+            userId, user.getUsername(), Set.copyOf(recipients)));
         
         // Return the created comment with user info
         CommentDto responseDto = modelMapper.map(comment, CommentDto.class);
@@ -85,21 +88,15 @@ public class CommentServiceImpl implements CommentService {
         
         commentRepository.save(comment);
         
-        // Notify task assignee and project manager about new comment
-        if (task.getAssignedUser() != null && !task.getAssignedUser().getId().equals(userId)) {
-            notificationService.notifyNewComment(
-                task.getAssignedUser().getId(),
-                task.getTitle(),
-                user.getUsername()
-            );
-        }
-        if (!task.getProject().getManager().getId().equals(userId)) {
-            notificationService.notifyNewComment(
-                task.getProject().getManager().getId(),
-                task.getTitle(),
-                user.getUsername()
-            );
+        // Notify task assignee and project manager (once, even if they are the same user)
+        Set<Long> recipients = new LinkedHashSet<>();
+        if (task.getAssignedUser() != null) {
+            recipients.add(task.getAssignedUser().getId());
         }
+        recipients.add(task.getProject().getManager().getId());
+        recipients.remove(userId);
+        eventPublisher.publishEvent(new CommentAdded(task.getProject().getId(), comment.getId(), taskId,
+            task.getTitle(), userId, user.getUsername(), Set.copyOf(recipients)));
         
         // Return the created comment with user info
         CommentDto responseDto = modelMapper.map(comment, CommentDto.class);
@@ -148,6 +145,7 @@ public class CommentServiceImpl implements CommentService {
         
         comment.setMessage(dto.getContent() != null ? dto.getContent() : dto.getMessage());
         commentRepository.save(comment);
+        eventPublisher.publishEvent(new CommentEdited(projectIdOf(comment), commentId, taskIdOf(comment), userId));
         
         return new ApiResponse<>(true, "Comment updated successfully!", null);
     }
@@ -163,6 +161,7 @@ public class CommentServiceImpl implements CommentService {
         }
         
         commentRepository.delete(comment);
+        eventPublisher.publishEvent(new CommentDeleted(projectIdOf(comment), commentId, taskIdOf(comment), userId));
         return new ApiResponse<>(true, "Comment deleted successfully!", null);
     }
 
@@ -202,6 +201,9 @@ public class CommentServiceImpl implements CommentService {
         }
 
         commentRepository.save(comment);
+        eventPublisher.publishEvent(new CommentAdded(projectIdOf(comment), comment.getId(), taskIdOf(comment),
+            comment.getTask() != null ? comment.getTask().getTitle() : comment.getProject().getName(),
+            user.getId(), user.getUsername(), Set.of()));
         return new ApiResponse<>(true, "Comment added!", null);
     }
 
@@ -220,4 +222,12 @@ public class CommentServiceImpl implements CommentService {
                 .map(c -> modelMapper.map(c, CommentDto.class))
                 .collect(Collectors.toList());
     }
+
+    private static Long projectIdOf(Comment comment) {
+        return comment.getTask() != null ? comment.getTask().getProject().getId() : comment.getProject().getId();
+    }
+
+    private static Long taskIdOf(Comment comment) {
+        return comment.getTask() != null ? comment.getTask().getId() : null;
+    }
 }
@@ -0,0 +1,62 @@
+package com.taskbuddy.service.impl;
+
+import com.taskbuddy.repository.PasswordResetTokenRepository;
+import com.taskbuddy.service.OtpStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * {@link OtpStore} backed by the {@code password_reset_tokens} table (one row
+ * per email, upserted). Used and expired rows are removed by the token janitor.
+ *
+ * <p>The upsert goes through JDBC rather than a native repository query: Hibernate
+ * cannot tell which tables a native update touches, so it would evict every
+ * second-level cache region on each reset request.</p>
+ */
+@Service
+@Transactional
+@ConditionalOnProperty(name = "taskbuddy.otp.store", havingValue = "database")
+public class DatabaseOtpStore implements OtpStore {
+
+    // one row per email (unique key), so repeated requests never add rows and an older OTP stops working
+    private static final String UPSERT = "INSERT INTO password_reset_tokens (email, otp, expiry_time, used, created_at) " +
+        "VALUES (?, ?, ?, false, ?) AS new " +
+        "ON DUPLICATE KEY UPDATE otp = new.otp, expiry_time = new.expiry_time, used = false, created_at = new.created_at";
+
+    private final PasswordResetTokenRepository tokenRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+
+    public DatabaseOtpStore(PasswordResetTokenRepository tokenRepository,
+                            JdbcTemplate jdbcTemplate,
+                            @Value("${taskbuddy.otp.ttl:10m}") Duration ttl) {
+        this.tokenRepository = tokenRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public void put(String email, String otp) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(UPSERT, email, otp, Timestamp.valueOf(now.plus(ttl)), Timestamp.valueOf(now));
+    }
+
+    @Override
+    public boolean consume(String email, String otp) {
+        return tokenRepository
+            .findByEmailAndOtpAndUsedFalseAndExpiryTimeAfter(email, otp, LocalDateTime.now())
+            .map(token -> {
+                token.setUsed(true);
+                tokenRepository.save(token);
+                return true;
+            })
+            .orElse(false);
+    }
+}
@@ -0,0 +1,120 @@
+package com.taskbuddy.service.impl;
+
+import com.taskbuddy.analytics.DurationHistogram;
+import com.taskbuddy.dto.ApiResponse;
+import com.taskbuddy.dto.BurndownDayDto;
+import com.taskbuddy.dto.DurationStatsDto;
+import com.taskbuddy.dto.FlowTimesDto;
+import com.taskbuddy.entity.ProjectFlowDaily;
+import com.taskbuddy.enums.FlowMetric;
+import com.taskbuddy.enums.TaskStatus;
+import com.taskbuddy.exception.InvalidInputException;
+import com.taskbuddy.exception.ResourceNotFoundException;
+import com.taskbuddy.repository.ProjectFlowRepository;
+import com.taskbuddy.repository.ProjectFlowRepository.BucketTotal;
+import com.taskbuddy.repository.ProjectFlowRepository.StatusTotal;
+import com.taskbuddy.repository.ProjectRepository;
+import com.taskbuddy.service.FlowAnalyticsService;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+@Service
+@Transactional(readOnly = true)
+@AllArgsConstructor
+public class FlowAnalyticsServiceImpl implements FlowAnalyticsService {
+
+    private static final int MAX_DAYS = 366;
+    private static final double SECONDS_PER_HOUR = 3600;
+
+    private final ProjectFlowRepository projectFlowRepository;
+    private final ProjectRepository projectRepository;
+
+    @Override
+    public ApiResponse<List<BurndownDayDto>> getBurndown(Long projectId, LocalDate from, LocalDate to) {
+        checkRange(projectId, from, to);
+
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (StatusTotal total : projectFlowRepository.findTotalsBefore(projectId, from)) {
+            counts.put(total.getStatus(), total.getTotal());
+        }
+        Map<LocalDate, List<ProjectFlowDaily>> deltasByDay = new TreeMap<>();
+        for (ProjectFlowDaily delta : projectFlowRepository.findByProjectIdAndDayBetweenOrderByDay(projectId, from, to)) {
+            deltasByDay.computeIfAbsent(delta.getDay(), d -> new ArrayList<>()).add(delta);
+        }
+
+        List<BurndownDayDto> days = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            for (ProjectFlowDaily delta : deltasByDay.getOrDefault(day, List.of())) {
+                counts.merge(delta.getStatus(), delta.getDelta(), Long::sum);
+            }
+            days.add(new BurndownDayDto(day,
+                count(counts, TaskStatus.PENDING) + count(counts, TaskStatus.ACCEPTED),
+                count(counts, TaskStatus.IN_PROGRESS),
+                count(counts, TaskStatus.COMPLETED),
+                count(counts, TaskStatus.REJECTED)));
+        }
+        return new ApiResponse<>(true, "Burndown retrieved successfully!", days);
+    }
+
+    @Override
+    public ApiResponse<FlowTimesDto> getFlowTimes(Long projectId, LocalDate from, LocalDate to) {
+        checkRange(projectId, from, to);
+
+        Map<FlowMetric, SortedMap<Integer, Long>> buckets = new EnumMap<>(FlowMetric.class);
+        Map<FlowMetric, long[]> totals = new EnumMap<>(FlowMetric.class);
+        for (FlowMetric metric : FlowMetric.values()) {
+            buckets.put(metric, new TreeMap<>());
+            totals.put(metric, new long[2]);
+        }
+        for (BucketTotal bucket : projectFlowRepository.findDurationBuckets(projectId, from, to)) {
+            buckets.get(bucket.getMetric()).put(bucket.getBucket(), bucket.getCount());
+            long[] total = totals.get(bucket.getMetric());
+            total[0] += bucket.getCount();
+            total[1] += bucket.getTotalSeconds();
+        }
+
+        FlowTimesDto times = new FlowTimesDto(projectId, from, to,
+            stats(buckets.get(FlowMetric.LEAD_TIME), totals.get(FlowMetric.LEAD_TIME)),
+            stats(buckets.get(FlowMetric.CYCLE_TIME), totals.get(FlowMetric.CYCLE_TIME)));
+        return new ApiResponse<>(true, "Flow times retrieved successfully!", times);
+    }
+
+    private static DurationStatsDto stats(SortedMap<Integer, Long> buckets, long[] total) {
+        long count = total[0];
+        if (count == 0) {
+            return new DurationStatsDto(0, 0, 0, 0, 0);
+        }
+        return new DurationStatsDto(count,
+            hours(total[1] / (double) count),
+            hours(DurationHistogram.percentileSeconds(buckets, count, 0.50)),
+            hours(DurationHistogram.percentileSeconds(buckets, count, 0.85)),
+            hours(DurationHistogram.percentileSeconds(buckets, count, 0.95)));
+    }
+
+    private static double hours(double seconds) {
+        return Math.round(seconds / SECONDS_PER_HOUR * 100) / 100.0;
+    }
+
+    private static long count(Map<TaskStatus, Long> counts, TaskStatus status) {
+        return counts.getOrDefault(status, 0L);
+    }
+
+    private void checkRange(Long projectId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+            throw new InvalidInputException("Date range must be between 1 and " + MAX_DAYS + " days!");
+        }
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Project not found!");
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.taskbuddy.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskbuddy.service.OtpStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link OtpStore} backed by an expiring in-memory map: issuing and checking OTPs
+ * costs no database writes. An OTP is dropped after {@code max-attempts} wrong
+ * guesses. OTPs do not survive a restart and are not shared between instances.
+ */
+@Service
+@ConditionalOnProperty(name = "taskbuddy.otp.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOtpStore implements OtpStore {
+
+    private record Entry(String otp, AtomicInteger failures) {
+    }
+
+    private final Cache<String, Entry> entries;
+    private final int maxAttempts;
+
+    public InMemoryOtpStore(@Value("${taskbuddy.otp.ttl:10m}") Duration ttl,
+                            @Value("${taskbuddy.otp.max-attempts:5}") int maxAttempts,
+                            @Value("${taskbuddy.otp.max-entries:100000}") long maxEntries) {
+        this.entries = Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maxEntries)
+            .build();
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public void put(String email, String otp) {
+        entries.put(key(email), new Entry(otp, new AtomicInteger()));
+    }
+
+    @Override
+    public boolean consume(String email, String otp) {
+        String key = key(email);
+        Entry entry = entries.getIfPresent(key);
+        if (entry == null || otp == null) {
+            return false;
+        }
+        boolean matches = MessageDigest.isEqual(
+            entry.otp().getBytes(StandardCharsets.UTF_8), otp.getBytes(StandardCharsets.UTF_8));
+        if (matches) {
+            // remove only this entry; false if another request consumed it first
+            return entries.asMap().remove(key, entry);
+        }
+        if (entry.failures().incrementAndGet() >= maxAttempts) {
+            entries.asMap().remove(key, entry);
+        }
+        return false;
+    }
+
+    private static String key(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -3,19 +3,26 @@ package com.taskbuddy.service.impl;
 import com.taskbuddy.dto.ApiResponse;
 import com.taskbuddy.dto.NotificationDto;
 import com.taskbuddy.entity.Notification;
+import com.taskbuddy.entity.OutboxMessage;
 import com.taskbuddy.entity.User;
 import com.taskbuddy.enums.NotificationType;
 import com.taskbuddy.exception.ResourceNotFoundException;
+import com.taskbuddy.event.NotificationQueued;
 import com.taskbuddy.repository.NotificationRepository;
+import com.taskbuddy.repository.OutboxMessageRepository;
 import com.taskbuddy.repository.UserRepository;
 import com.taskbuddy.service.NotificationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -35,8 +42,10 @@ public class NotificationServiceImpl implements NotificationService {
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
     private final ModelMapper modelMapper;
-    // WebSocket handler to broadcast notifications in real time
-    private final com.taskbuddy.websocket.NotificationWebSocketHandler notificationWebSocketHandler;
+    // Real-time delivery goes through the outbox (see NotificationOutboxRelay)
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * {@inheritDoc}
@@ -143,6 +152,44 @@ public class NotificationServiceImpl implements NotificationService {
         );
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifyNewComments(Long userId, String entityName, int count, List<String> commenterNames) {
+        if (count == 1 && !commenterNames.isEmpty()) {
+            notifyNewComment(userId, entityName, commenterNames.get(0));
+            return;
+        }
+        String from = switch (commenterNames.size()) {
+            case 0 -> "";
+            case 1 -> " from " + commenterNames.get(0);
+            case 2 -> " from " + commenterNames.get(0) + " and " + commenterNames.get(1);
+            default -> " from " + commenterNames.get(0) + " and " + (commenterNames.size() - 1) + " others";
+        };
+        createNotificationInternal(
+                userId,
+                count + " new comments on '" + entityName + "'" + from,
+                NotificationType.NEW_COMMENT
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifyCommentDigest(Long userId, List<CommentDigestItem> items) {
+        int total = items.stream().mapToInt(CommentDigestItem::count).sum();
+        String lines = items.stream()
+                .map(item -> "'" + item.entityName() + "' (" + item.count() + ")")
+                .collect(Collectors.joining(", "));
+        createNotificationInternal(
+                userId,
+                total + " new comments on " + items.size() + " item(s): " + lines,
+                NotificationType.NEW_COMMENT
+        );
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -155,6 +202,24 @@ public class NotificationServiceImpl implements NotificationService {
         );
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifyTasksDueSoon(Long userId, Map<Long, DueTask> tasksById) {
+        String message;
+        if (tasksById.size() == 1) {
+            DueTask task = tasksById.values().iterator().next();
+            message = "Task '" + task.title() + "' is due on " + task.dueDate();
+        } else {
+            message = tasksById.size() + " tasks are due soon: " + tasksById.values().stream()
+                    .map(task -> "'" + task.title() + "' (" + task.dueDate() + ")")
+                    .collect(Collectors.joining(", "));
+        }
+        // GENERAL: notifications.type is a native enum column that ddl-auto=update never widens
+        createNotificationInternal(userId, message, NotificationType.GENERAL);
+    }
+
     /**
      * Helper method to create a notification based on simple parameters.  This
      * method will silently skip notification creation if the recipient cannot be
@@ -170,7 +235,7 @@ public class NotificationServiceImpl implements NotificationService {
 
             if (recipient != null) {
                 Notification notification = new Notification();
-                notification.setMessage(message);
+                notification.setMessage(abbreviate(message));
                 notification.setType(type);
                 notification.setRecipient(recipient);
                 notification.setRead(false);
@@ -182,13 +247,16 @@ public class NotificationServiceImpl implements NotificationService {
                 NotificationDto dto = modelMapper.map(notification, NotificationDto.class);
                 // Ensure recipientId is set as it does not map automatically
                 dto.setRecipientId(recipient.getId());
+                dto.setDeliveryId(UUID.randomUUID().toString());
 
-                // Send via WebSocket to all active sessions for the recipient
-                try {
-                    notificationWebSocketHandler.sendNotification(recipient.getId(), dto);
-                } catch (Exception e) {
-                    log.warn("Failed to broadcast notification via WebSocket for user {}: {}", recipient.getId(), e.getMessage());
-                }
+                // Queue the WebSocket push in the same transaction; the outbox relay
+                // sends it after commit
+                OutboxMessage outboxMessage = new OutboxMessage();
+                outboxMessage.setDeliveryId(dto.getDeliveryId());
+                outboxMessage.setRecipientId(recipient.getId());
+                outboxMessage.setPayload(objectMapper.writeValueAsString(dto));
+                outboxMessageRepository.save(outboxMessage);
+                eventPublisher.publishEvent(new NotificationQueued(recipient.getId()));
             } else {
                 log.warn("Recipient not found for userId: {}", userId);
             }
@@ -196,4 +264,11 @@ public class NotificationServiceImpl implements NotificationService {
             log.error("Failed to create notification for userId {}: {}", userId, e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Fit a message into the notifications.message column (255 characters).
+     */
+    private static String abbreviate(String message) {
+        return message.length() <= 255 ? message : message.substring(0, 254) + "\u2026";
+    }
+}
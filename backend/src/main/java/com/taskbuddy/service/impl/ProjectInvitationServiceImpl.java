@@ -16,7 +16,10 @@ import com.taskbuddy.entity.ProjectMember;
 import com.taskbuddy.dto.ProjectInvitationDto;
 import com.taskbuddy.dto.ApiResponse;
 import com.taskbuddy.service.ProjectInvitationService;
-import com.taskbuddy.service.NotificationService;
+import com.taskbuddy.event.InvitationAccepted;
+import com.taskbuddy.event.InvitationSent;
+import com.taskbuddy.event.MemberJoined;
+import org.springframework.context.ApplicationEventPublisher;
 import com.taskbuddy.enums.InvitationStatus;
 import com.taskbuddy.enums.ProjectRole;
 import com.taskbuddy.exception.ResourceNotFoundException;
@@ -38,7 +41,7 @@ public class ProjectInvitationServiceImpl implements ProjectInvitationService {
     private final UserRepository userRepository;
     private final ProjectMemberRepository projectMemberRepository;
     private final ModelMapper modelMapper;
-    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ApiResponse<ProjectInvitationDto> inviteUser(Long projectId, Long invitedUserId, Long requestingUserId) {
@@ -85,12 +88,8 @@ public class ProjectInvitationServiceImpl implements ProjectInvitationService {
         ProjectInvitation savedInvitation = invitationRepository.save(invitation);
         ProjectInvitationDto savedInvitationDto = modelMapper.map(savedInvitation, ProjectInvitationDto.class);
         
-        // Send notification to invited user
-        notificationService.notifyProjectInvitation(
-            invitedUserId, 
-            project.getName(), 
-            requestingUser.getUsername()
-        );
+        eventPublisher.publishEvent(new InvitationSent(projectId, savedInvitation.getId(), invitedUserId,
+            invitedUser.getUsername(), invitedUser.getEmail(), project.getName(), requestingUser.getUsername()));
         
         return new ApiResponse<>(true, "User invited successfully!", savedInvitationDto);
     }
@@ -131,13 +130,12 @@ public class ProjectInvitationServiceImpl implements ProjectInvitationService {
             projectMember.setUser(invitation.getInvitedUser());
             projectMember.setRole(ProjectRole.MEMBER); // Default role for invited users
             projectMemberRepository.save(projectMember);
-            
-            // Create notification for project owner
-            notificationService.notifyInvitationAccepted(
-                invitation.getInvitedBy().getId(),
-                invitation.getInvitedUser().getUsername(),
-                invitation.getProject().getName()
-            );
+
+            Long projectId = invitation.getProject().getId();
+            eventPublisher.publishEvent(new MemberJoined(projectId, invitation.getInvitedUser().getId()));
+            eventPublisher.publishEvent(new InvitationAccepted(projectId, invitationId,
+                invitation.getInvitedUser().getId(), invitation.getInvitedUser().getUsername(),
+                invitation.getProject().getName(), invitation.getInvitedBy().getId()));
         }
         
         ProjectInvitationDto updatedInvitationDto = modelMapper.map(updatedInvitation, ProjectInvitationDto.class);
@@ -12,6 +12,8 @@ import com.taskbuddy.entity.User;
 import com.taskbuddy.dto.ApiResponse;
 import com.taskbuddy.dto.ProjectMemberDto;
 import com.taskbuddy.service.ProjectMemberService;
+import com.taskbuddy.event.MemberJoined;
+import org.springframework.context.ApplicationEventPublisher;
 import java.util.List;
 
 @Service
@@ -21,6 +23,7 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
     private final ProjectMemberRepository projectMemberRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public List<ProjectMemberDto> getMembersForProject(Long projectId) {
@@ -72,6 +75,7 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
         projectMember.setRole(com.taskbuddy.enums.ProjectRole.MEMBER);
 
         projectMemberRepository.save(projectMember);
+        eventPublisher.publishEvent(new MemberJoined(projectId, userId));
     }
 
     @Override
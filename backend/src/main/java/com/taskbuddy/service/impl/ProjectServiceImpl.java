@@ -7,18 +7,33 @@ import org.modelmapper.ModelMapper;
 import com.taskbuddy.repository.ProjectRepository;
 import com.taskbuddy.repository.UserRepository;
 import com.taskbuddy.repository.ProjectMemberRepository;
+import com.taskbuddy.repository.ProjectTaskCounterRepository;
+import com.taskbuddy.repository.TaskDependencyRepository;
 import com.taskbuddy.entity.Project;
 import com.taskbuddy.entity.User;
 import com.taskbuddy.entity.ProjectMember;
+import com.taskbuddy.entity.ProjectTaskCounter;
 import com.taskbuddy.dto.ProjectDto;
 import com.taskbuddy.dto.ApiResponse;
 import com.taskbuddy.enums.ProjectStatus;
 import com.taskbuddy.enums.ProjectRole;
+import com.taskbuddy.enums.TaskStatus;
+import com.taskbuddy.counter.ProjectTaskCounters;
 import com.taskbuddy.exception.ResourceNotFoundException;
 import com.taskbuddy.exception.InvalidInputException;
+import com.taskbuddy.exception.PreconditionFailedException;
 import com.taskbuddy.service.ProjectService;
-
+import com.taskbuddy.event.MemberJoined;
+import com.taskbuddy.event.MemberRemoved;
+import com.taskbuddy.event.ProjectCreated;
+import com.taskbuddy.event.ProjectDeleted;
+import com.taskbuddy.event.ProjectUpdated;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,7 +44,11 @@ public class ProjectServiceImpl implements ProjectService {
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final ProjectMemberRepository projectMemberRepository;
+    private final ProjectTaskCounterRepository taskCounterRepository;
+    private final ProjectTaskCounters taskCounters;
+    private final TaskDependencyRepository dependencyRepository;
     private final ModelMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ApiResponse<String> createProject(ProjectDto dto, Long requestingUserId) {
@@ -49,6 +68,7 @@ public class ProjectServiceImpl implements ProjectService {
         managerMember.setUser(manager);
         managerMember.setRole(ProjectRole.MANAGER);
         projectMemberRepository.save(managerMember);
+        eventPublisher.publishEvent(new ProjectCreated(savedProject.getId(), savedProject.getName(), requestingUserId));
 
         return new ApiResponse<>(true, "Project created successfully!", null);
     }
@@ -61,11 +81,11 @@ public class ProjectServiceImpl implements ProjectService {
                 ProjectDto dto = mapper.map(project, ProjectDto.class);
                 dto.setManagerName(project.getManager().getUsername());
                 // NOTE: This may initialize lazy collections; acceptable for now (minimal change)
-                dto.setTaskCount(project.getTasks() != null ? project.getTasks().size() : 0);
                 dto.setMemberCount(project.getProjectMembers() != null ? project.getProjectMembers().size() : 0);
                 return dto;
             })
             .collect(Collectors.toList());
+        setStatusCounts(projectDtos);
         return new ApiResponse<>(true, "Projects retrieved successfully!", projectDtos);
     }
 
@@ -76,6 +96,7 @@ public class ProjectServiceImpl implements ProjectService {
 
         ProjectDto dto = mapper.map(project, ProjectDto.class);
         dto.setManagerName(project.getManager().getUsername());
+        setStatusCounts(List.of(dto));
         return new ApiResponse<>(true, "Project retrieved successfully!", dto);
     }
 
@@ -92,6 +113,7 @@ public class ProjectServiceImpl implements ProjectService {
                 return dto;
             })
             .collect(Collectors.toList());
+        setStatusCounts(projectDtos);
         return new ApiResponse<>(true, "Manager's projects retrieved successfully!", projectDtos);
     }
 
@@ -108,13 +130,15 @@ public class ProjectServiceImpl implements ProjectService {
                 return dto;
             })
             .collect(Collectors.toList());
+        setStatusCounts(projectDtos);
         return new ApiResponse<>(true, "User's projects retrieved successfully!", projectDtos);
     }
 
     @Override
-    public ApiResponse<String> updateProject(Long projectId, ProjectDto dto, Long requestingUserId) {
+    public ApiResponse<String> updateProject(Long projectId, ProjectDto dto, Long requestingUserId, Long expectedVersion) {
         Project project = projectRepository.findById(projectId)
             .orElseThrow(() -> new ResourceNotFoundException("Project not found!"));
+        checkVersion(project, expectedVersion);
 
         boolean isProjectManager = projectMemberRepository.findByProjectIdAndUserId(projectId, requestingUserId)
             .map(member -> ProjectRole.MANAGER.equals(member.getRole()))
@@ -139,6 +163,7 @@ public class ProjectServiceImpl implements ProjectService {
         }
 
         projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectUpdated(projectId, requestingUserId));
         return new ApiResponse<>(true, "Project updated successfully!", null);
     }
 
@@ -156,6 +181,9 @@ public class ProjectServiceImpl implements ProjectService {
 
         projectMemberRepository.deleteByProject(project);
         projectRepository.delete(project);
+        taskCounters.deleteProject(projectId);
+        dependencyRepository.deleteAllByProjectId(projectId);
+        eventPublisher.publishEvent(new ProjectDeleted(projectId, requestingUserId));
         return new ApiResponse<>(true, "Project deleted successfully!", null);
     }
 
@@ -184,6 +212,7 @@ public class ProjectServiceImpl implements ProjectService {
         newMember.setUser(userToAdd);
         newMember.setRole(ProjectRole.MEMBER);
         projectMemberRepository.save(newMember);
+        eventPublisher.publishEvent(new MemberJoined(projectId, userId));
 
         return new ApiResponse<>(true, "Member added to project successfully!", null);
     }
@@ -211,13 +240,15 @@ public class ProjectServiceImpl implements ProjectService {
             .orElseThrow(() -> new ResourceNotFoundException("User is not a member of this project!"));
 
         projectMemberRepository.delete(memberToRemove);
+        eventPublisher.publishEvent(new MemberRemoved(projectId, userId));
         return new ApiResponse<>(true, "Member removed from project successfully!", null);
     }
 
     @Override
-    public ApiResponse<String> updateProjectStatus(Long projectId, ProjectStatus status, Long requestingUserId) {
+    public ApiResponse<String> updateProjectStatus(Long projectId, ProjectStatus status, Long requestingUserId, Long expectedVersion) {
         Project project = projectRepository.findById(projectId)
             .orElseThrow(() -> new ResourceNotFoundException("Project not found!"));
+        checkVersion(project, expectedVersion);
 
         boolean isProjectManager = projectMemberRepository.findByProjectIdAndUserId(projectId, requestingUserId)
             .map(member -> ProjectRole.MANAGER.equals(member.getRole()))
@@ -228,6 +259,7 @@ public class ProjectServiceImpl implements ProjectService {
 
         project.setStatus(status);
         projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectUpdated(projectId, requestingUserId));
         return new ApiResponse<>(true, "Project status updated successfully!", null);
     }
 
@@ -250,11 +282,11 @@ public class ProjectServiceImpl implements ProjectService {
                 ProjectDto dto = mapper.map(project, ProjectDto.class);
                 dto.setManagerName(project.getManager().getUsername());
                 // NOTE: same as above—minimal change
-                dto.setTaskCount(project.getTasks() != null ? project.getTasks().size() : 0);
                 dto.setMemberCount(project.getProjectMembers() != null ? project.getProjectMembers().size() : 0);
                 return dto;
             })
             .collect(Collectors.toList());
+        setStatusCounts(projectDtos);
 
         return new ApiResponse<>(true, "Projects retrieved successfully!", projectDtos);
     }
@@ -263,4 +295,30 @@ public class ProjectServiceImpl implements ProjectService {
     public ApiResponse<String> assignMemberToProject(Long projectId, Long userId, Long requestingUserId) {
         return addMemberToProject(projectId, userId, requestingUserId);
     }
+
+    // Task counts come from the denormalized counters, one query for the whole list; tasks are never loaded
+    private void setStatusCounts(List<ProjectDto> dtos) {
+        if (dtos.isEmpty()) {
+            return;
+        }
+        Map<Long, Map<TaskStatus, Long>> countsByProject = new HashMap<>();
+        for (ProjectTaskCounter counter : taskCounterRepository.findByProjectIdIn(dtos.stream().map(ProjectDto::getId).toList())) {
+            countsByProject.computeIfAbsent(counter.getProjectId(), id -> new EnumMap<>(TaskStatus.class))
+                .put(counter.getStatus(), counter.getTaskCount());
+        }
+        for (ProjectDto dto : dtos) {
+            Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+            for (TaskStatus status : TaskStatus.values()) {
+                counts.put(status, countsByProject.getOrDefault(dto.getId(), Map.of()).getOrDefault(status, 0L));
+            }
+            dto.setStatusCounts(counts);
+            dto.setTaskCount((int) counts.values().stream().mapToLong(Long::longValue).sum());
+        }
+    }
+
+    private void checkVersion(Project project, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(project.getVersion())) {
+            throw new PreconditionFailedException("Project has been modified by someone else. Reload and try again.");
+        }
+    }
 }
@@ -0,0 +1,91 @@
+package com.taskbuddy.service.impl;
+
+import com.taskbuddy.dto.ApiResponse;
+import com.taskbuddy.dto.ProjectDto;
+import com.taskbuddy.dto.ProjectMemberDto;
+import com.taskbuddy.dto.ProjectViewDto;
+import com.taskbuddy.dto.TaskDto;
+import com.taskbuddy.service.ProjectMemberService;
+import com.taskbuddy.service.ProjectService;
+import com.taskbuddy.service.ProjectViewService;
+import com.taskbuddy.service.TaskService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs the four independent reads behind the project page concurrently, one
+ * virtual thread each. Every read is its own short read transaction on the
+ * underlying service, so none of them waits on another's connection; the
+ * executor is closed before returning, so no read outlives the request.
+ * Virtual threads are unbounded but connections are not: a semaphore shared by
+ * all requests caps the reads in flight at {@code max-concurrent-reads}, so a
+ * burst of page loads queues here instead of draining the connection pool.
+ */
+@Service
+public class ProjectViewServiceImpl implements ProjectViewService {
+
+    private final ProjectService projectService;
+    private final ProjectMemberService projectMemberService;
+    private final TaskService taskService;
+    private final Semaphore readPermits;
+
+    public ProjectViewServiceImpl(ProjectService projectService,
+                                  ProjectMemberService projectMemberService,
+                                  TaskService taskService,
+                                  @Value("${taskbuddy.projects.view.max-concurrent-reads:8}") int maxConcurrentReads) {
+        this.projectService = projectService;
+        this.projectMemberService = projectMemberService;
+        this.taskService = taskService;
+        this.readPermits = new Semaphore(maxConcurrentReads, true);
+    }
+
+    @Override
+    public ApiResponse<ProjectViewDto> getProjectView(Long projectId, Long requestingUserId) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<ProjectDto> project = executor.submit(limited(() -> projectService.getProjectById(projectId).getData()));
+            Future<List<ProjectMemberDto>> members = executor.submit(limited(() -> projectMemberService.getMembersForProject(projectId)));
+            Future<List<TaskDto>> tasks = executor.submit(limited(() -> taskService.getTasksByProjectId(projectId).getData()));
+            Future<String> myRole = executor.submit(limited(() ->
+                projectMemberService.getUserRoleInProject(projectId, requestingUserId).getData()));
+
+            ProjectViewDto view = new ProjectViewDto(join(project), join(members), join(tasks), join(myRole));
+            return new ApiResponse<>(true, "Project view retrieved successfully!", view);
+        }
+    }
+
+    // Hold a permit for the whole read, i.e. for as long as it holds a connection
+    private <T> Callable<T> limited(Callable<T> read) {
+        return () -> {
+            readPermits.acquire();
+            try {
+                return read.call();
+            } finally {
+                readPermits.release();
+            }
+        };
+    }
+
+    // Rethrow the read's own exception (e.g. ResourceNotFoundException) so it maps to the usual status
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new CompletionException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.taskbuddy.service.impl;
+
+import com.taskbuddy.dto.ApiResponse;
+import com.taskbuddy.dto.QuickSwitchItemDto;
+import com.taskbuddy.dto.SearchHitDto;
+import com.taskbuddy.enums.SearchType;
+import com.taskbuddy.exception.InvalidInputException;
+import com.taskbuddy.repository.ProjectMemberRepository;
+import com.taskbuddy.search.QuickSwitchIndex;
+import com.taskbuddy.search.SearchIndex;
+import com.taskbuddy.service.SearchService;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+@AllArgsConstructor
+public class SearchServiceImpl implements SearchService {
+
+    private static final int MAX_QUERY_LENGTH = 200;
+    private static final int MAX_HITS = 50;
+    private static final int MAX_QUICK_SWITCH_MATCHES = 20;
+
+    private final SearchIndex searchIndex;
+    private final QuickSwitchIndex quickSwitchIndex;
+    private final ProjectMemberRepository projectMemberRepository;
+
+    @Override
+    public ApiResponse<List<SearchHitDto>> search(String query, SearchType type, int limit, Long userId) {
+        if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH) {
+            throw new InvalidInputException("Search text must be between 1 and " + MAX_QUERY_LENGTH + " characters!");
+        }
+        if (limit < 1 || limit > MAX_HITS) {
+            throw new InvalidInputException("Limit must be between 1 and " + MAX_HITS + "!");
+        }
+        long[] projectIds = projectIdsOf(userId).stream().mapToLong(Long::longValue).toArray();
+        List<SearchHitDto> hits = searchIndex.search(query, projectIds, type, limit);
+        return new ApiResponse<>(true, "Search completed successfully!", hits);
+    }
+
+    @Override
+    public ApiResponse<List<QuickSwitchItemDto>> quickSwitch(String query, int limit, Long userId) {
+        if (query == null || query.length() > MAX_QUERY_LENGTH) {
+            throw new InvalidInputException("Search text must be at most " + MAX_QUERY_LENGTH + " characters!");
+        }
+        if (limit < 1 || limit > MAX_QUICK_SWITCH_MATCHES) {
+            throw new InvalidInputException("Limit must be between 1 and " + MAX_QUICK_SWITCH_MATCHES + "!");
+        }
+        List<QuickSwitchItemDto> matches = quickSwitchIndex.lookup(query, projectIdsOf(userId), limit);
+        return new ApiResponse<>(true, "Matches retrieved successfully!", matches);
+    }
+
+    // managers are members too, so this covers every project the user may see
+    private List<Long> projectIdsOf(Long userId) {
+        return projectMemberRepository.findByUserId(userId).stream()
+            .map(member -> member.getProject().getId())
+            .toList();
+    }
+}
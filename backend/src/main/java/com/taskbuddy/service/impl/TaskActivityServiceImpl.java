@@ -0,0 +1,91 @@
+package com.taskbuddy.service.impl;
+
+import com.taskbuddy.dto.ApiResponse;
+import com.taskbuddy.dto.PageDto;
+import com.taskbuddy.dto.TaskActivityDto;
+import com.taskbuddy.entity.TaskActivity;
+import com.taskbuddy.entity.User;
+import com.taskbuddy.enums.TaskField;
+import com.taskbuddy.exception.InvalidInputException;
+import com.taskbuddy.repository.TaskActivityRepository;
+import com.taskbuddy.repository.UserRepository;
+import com.taskbuddy.service.TaskActivityService;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+@AllArgsConstructor
+public class TaskActivityServiceImpl implements TaskActivityService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final TaskActivityRepository taskActivityRepository;
+    private final UserRepository userRepository;
+
+    @Override
+    public ApiResponse<PageDto<TaskActivityDto>> getTaskActivity(Long taskId, int page, int size) {
+        checkPage(page, size);
+        Slice<TaskActivity> activity = taskActivityRepository.findByTaskIdOrderByIdDesc(taskId, PageRequest.of(page, size));
+        return new ApiResponse<>(true, "Task activity retrieved successfully!", toPage(activity));
+    }
+
+    @Override
+    public ApiResponse<PageDto<TaskActivityDto>> getProjectActivity(Long projectId, int page, int size) {
+        checkPage(page, size);
+        Slice<TaskActivity> activity = taskActivityRepository.findByProjectIdOrderByIdDesc(projectId, PageRequest.of(page, size));
+        return new ApiResponse<>(true, "Project activity retrieved successfully!", toPage(activity));
+    }
+
+    // Rows keep user ids; names are looked up for the whole page in one query
+    private PageDto<TaskActivityDto> toPage(Slice<TaskActivity> activity) {
+        Set<Long> userIds = new HashSet<>();
+        for (TaskActivity entry : activity) {
+            if (entry.getActorId() != null) {
+                userIds.add(entry.getActorId());
+            }
+            if (entry.getField() == TaskField.ASSIGNEE) {
+                addUserId(userIds, entry.getOldValue());
+                addUserId(userIds, entry.getNewValue());
+            }
+        }
+        Map<Long, String> names = userRepository.findAllById(userIds).stream()
+            .collect(Collectors.toMap(User::getId, User::getUsername));
+
+        return PageDto.of(activity, entry -> {
+            String oldValue = entry.getOldValue();
+            String newValue = entry.getNewValue();
+            if (entry.getField() == TaskField.ASSIGNEE) {
+                oldValue = userName(names, oldValue);
+                newValue = userName(names, newValue);
+            }
+            return new TaskActivityDto(entry.getId(), entry.getTaskId(), entry.getProjectId(), entry.getActorId(),
+                names.get(entry.getActorId()), entry.getField(), oldValue, newValue, entry.getCreatedAt());
+        });
+    }
+
+    private static void addUserId(Set<Long> userIds, String value) {
+        if (value != null) {
+            userIds.add(Long.valueOf(value));
+        }
+    }
+
+    // users deleted since keep showing as their id
+    private static String userName(Map<Long, String> names, String userId) {
+        return userId == null ? null : names.getOrDefault(Long.valueOf(userId), userId);
+    }
+
+    private static void checkPage(int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidInputException("Page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE + "!");
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.taskbuddy.service.impl;
+
+import com.taskbuddy.dto.ApiResponse;
+import com.taskbuddy.dto.BoardColumnDto;
+import com.taskbuddy.dto.TaskBoardDto;
+import com.taskbuddy.dto.TaskDto;
+import com.taskbuddy.entity.Task;
+import com.taskbuddy.enums.TaskStatus;
+import com.taskbuddy.exception.InvalidInputException;
+import com.taskbuddy.exception.ResourceNotFoundException;
+import com.taskbuddy.repository.ProjectRepository;
+import com.taskbuddy.repository.TaskRepository;
+import com.taskbuddy.repository.TaskRepository.BoardSlot;
+import com.taskbuddy.service.TaskBoardService;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the board from two queries regardless of project size: one windowed
+ * query for the first card ids and the count of every column, and one fetch of
+ * those cards. Columns then page independently with keyset cursors, so deep
+ * pages cost the same as the first.
+ */
+@Service
+@Transactional(readOnly = true)
+@AllArgsConstructor
+public class TaskBoardServiceImpl implements TaskBoardService {
+
+    private static final int MAX_CARDS = 100;
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskDtoMapper taskDtoMapper;
+
+    @Override
+    public ApiResponse<TaskBoardDto> getBoard(Long projectId, int perColumn) {
+        checkSize(perColumn);
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Project not found!");
+        }
+
+        List<BoardSlot> slots = taskRepository.findBoardSlots(projectId, perColumn);
+        Map<Long, Task> cards = taskRepository.findWithAssigneeByIdIn(slots.stream().map(BoardSlot::getId).toList())
+            .stream()
+            .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        Map<TaskStatus, List<BoardSlot>> slotsByStatus = new EnumMap<>(TaskStatus.class);
+        for (BoardSlot slot : slots) {
+            slotsByStatus.computeIfAbsent(TaskStatus.valueOf(slot.getStatus()), s -> new ArrayList<>()).add(slot);
+        }
+
+        List<BoardColumnDto> columns = new ArrayList<>();
+        for (TaskStatus status : TaskStatus.values()) {
+            List<BoardSlot> column = slotsByStatus.getOrDefault(status, List.of());
+            long count = column.isEmpty() ? 0 : column.get(0).getTotal();
+            List<Task> columnCards = column.stream()
+                .map(slot -> cards.get(slot.getId()))
+                .filter(Objects::nonNull)
+                .toList();
+            columns.add(column(status, count, columnCards, count > columnCards.size()));
+        }
+        return new ApiResponse<>(true, "Board retrieved successfully!", new TaskBoardDto(projectId, columns));
+    }
+
+    @Override
+    public ApiResponse<BoardColumnDto> getColumn(Long projectId, TaskStatus status, String cursor, int size) {
+        checkSize(size);
+        Cursor after = decodeCursor(cursor);
+        Slice<Task> page = taskRepository.findColumnPage(projectId, status, after.rank(), after.id(), PageRequest.ofSize(size));
+        long count = taskRepository.countByProjectIdAndStatus(projectId, status);
+        return new ApiResponse<>(true, "Board column retrieved successfully!",
+            column(status, count, page.getContent(), page.hasNext()));
+    }
+
+    private BoardColumnDto column(TaskStatus status, long count, List<Task> cards, boolean hasMore) {
+        List<TaskDto> dtos = cards.stream().map(taskDtoMapper::toDto).toList();
+        String nextCursor = hasMore && !cards.isEmpty() ? encodeCursor(cards.get(cards.size() - 1)) : null;
+        return new BoardColumnDto(status, count, dtos, nextCursor);
+    }
+
+    private static void checkSize(int size) {
+        if (size < 1 || size > MAX_CARDS) {
+            throw new InvalidInputException("Size must be between 1 and " + MAX_CARDS + "!");
+        }
+    }
+
+    private record Cursor(String rank, Long id) {
+    }
+
+    // Cursors are opaque to clients so the sort key can change without breaking them
+    private static String encodeCursor(Task last) {
+        String key = (last.getRank() != null ? last.getRank() : "") + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new Cursor("", 0L);
+        }
+        try {
+            String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = key.lastIndexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException(key);
+            }
+            return new Cursor(key.substring(0, separator), Long.valueOf(key.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidInputException("Invalid board cursor!");
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.taskbuddy.service.impl;
+
+import com.taskbuddy.dependency.DependencyGraph;
+import com.taskbuddy.dependency.ProjectSchedule;
+import com.taskbuddy.dependency.ProjectSchedule.Entry;
+import com.taskbuddy.dto.ApiResponse;
+import com.taskbuddy.dto.CriticalPathDto;
+import com.taskbuddy.dto.TaskDependenciesDto;
+import com.taskbuddy.dto.TaskScheduleDto;
+import com.taskbuddy.entity.Task;
+import com.taskbuddy.entity.TaskDependency;
+import com.taskbuddy.event.TaskDependencyAdded;
+import com.taskbuddy.event.TaskDependencyRemoved;
+import com.taskbuddy.exception.InvalidInputException;
+import com.taskbuddy.exception.ResourceNotFoundException;
+import com.taskbuddy.repository.ProjectRepository;
+import com.taskbuddy.repository.TaskDependencyRepository;
+import com.taskbuddy.repository.TaskRepository;
+import com.taskbuddy.service.TaskDependencyService;
+import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Cycle checks and schedules come from the in-memory {@link DependencyGraph};
+ * the database only stores links and supplies titles for the response.
+ * Adding a link locks the project row, so two links that would close a cycle
+ * together can never both pass the check.
+ */
+@Service
+@Transactional
+@AllArgsConstructor
+public class TaskDependencyServiceImpl implements TaskDependencyService {
+
+    private final TaskDependencyRepository dependencyRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final DependencyGraph dependencyGraph;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public ApiResponse<String> addDependency(Long taskId, Long blockerTaskId, Long requestingUserId) {
+        Task task = taskRepository.findById(taskId)
+            .orElseThrow(() -> new ResourceNotFoundException("Task not found!"));
+        Task blocker = taskRepository.findById(blockerTaskId)
+            .orElseThrow(() -> new ResourceNotFoundException("Blocking task not found!"));
+        Long projectId = task.getProject().getId();
+        if (taskId.equals(blockerTaskId)) {
+            throw new InvalidInputException("A task cannot block itself!");
+        }
+        if (!blocker.getProject().getId().equals(projectId)) {
+            throw new InvalidInputException("Only tasks of the same project can block each other!");
+        }
+
+        projectRepository.findForUpdateById(projectId)
+            .orElseThrow(() -> new ResourceNotFoundException("Project not found!"));
+        if (dependencyRepository.existsByBlockerTaskIdAndBlockedTaskId(blockerTaskId, taskId)) {
+            throw new InvalidInputException("Task is already blocked by this task!");
+        }
+        if (dependencyGraph.schedule(projectId).wouldCreateCycle(blockerTaskId, taskId)) {
+            throw new InvalidInputException("This link would create a dependency cycle!");
+        }
+
+        dependencyRepository.save(new TaskDependency(projectId, blockerTaskId, taskId));
+        dependencyGraph.linkAdded(projectId, blockerTaskId, blocker.getDueDate(), taskId, task.getDueDate());
+        eventPublisher.publishEvent(new TaskDependencyAdded(projectId, taskId, blockerTaskId, requestingUserId));
+        return new ApiResponse<>(true, "Dependency added successfully!", null);
+    }
+
+    @Override
+    public ApiResponse<String> removeDependency(Long taskId, Long blockerTaskId, Long requestingUserId) {
+        Task task = taskRepository.findById(taskId)
+            .orElseThrow(() -> new ResourceNotFoundException("Task not found!"));
+        Long projectId = task.getProject().getId();
+        if (dependencyRepository.deleteLink(blockerTaskId, taskId) == 0) {
+            throw new ResourceNotFoundException("Task is not blocked by this task!");
+        }
+        dependencyGraph.linkRemoved(projectId, blockerTaskId, taskId);
+        eventPublisher.publishEvent(new TaskDependencyRemoved(projectId, taskId, blockerTaskId, requestingUserId));
+        return new ApiResponse<>(true, "Dependency removed successfully!", null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse<TaskDependenciesDto> getDependencies(Long taskId) {
+        Task task = taskRepository.findById(taskId)
+            .orElseThrow(() -> new ResourceNotFoundException("Task not found!"));
+        ProjectSchedule schedule = dependencyGraph.schedule(task.getProject().getId());
+        Entry entry = schedule.entry(taskId);
+        if (entry == null) {
+            // no links: the task finishes on its own date
+            TaskScheduleDto own = new TaskScheduleDto(taskId, task.getTitle(), task.getStatus(),
+                task.getDueDate(), task.getDueDate(), false);
+            return new ApiResponse<>(true, "Dependencies retrieved successfully!",
+                new TaskDependenciesDto(own, List.of(), List.of()));
+        }
+
+        List<Entry> blockedBy = entries(schedule, entry.blockedBy());
+        List<Entry> blocks = entries(schedule, entry.blocks());
+        Set<Long> ids = new HashSet<>(entry.blockedBy());
+        ids.addAll(entry.blocks());
+        Map<Long, Task> tasks = loadTasks(ids);
+        tasks.put(taskId, task);
+        TaskDependenciesDto dto = new TaskDependenciesDto(toDto(entry, tasks),
+            toDtos(blockedBy, tasks), toDtos(blocks, tasks));
+        return new ApiResponse<>(true, "Dependencies retrieved successfully!", dto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse<CriticalPathDto> getCriticalPath(Long projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Project not found!");
+        }
+        ProjectSchedule schedule = dependencyGraph.schedule(projectId);
+        List<Entry> path = schedule.criticalPath();
+        List<Entry> late = schedule.lateEntries();
+
+        Set<Long> ids = new HashSet<>();
+        path.forEach(entry -> ids.add(entry.taskId()));
+        late.forEach(entry -> ids.add(entry.taskId()));
+        Map<Long, Task> tasks = loadTasks(ids);
+
+        CriticalPathDto dto = new CriticalPathDto(projectId,
+            path.isEmpty() ? null : path.get(path.size() - 1).earliestFinish(),
+            toDtos(path, tasks), toDtos(late, tasks));
+        return new ApiResponse<>(true, "Critical path retrieved successfully!", dto);
+    }
+
+    private static List<Entry> entries(ProjectSchedule schedule, List<Long> taskIds) {
+        return taskIds.stream().map(schedule::entry).filter(Objects::nonNull).toList();
+    }
+
+    private Map<Long, Task> loadTasks(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return new HashMap<>();
+        }
+        return taskRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Task::getId, Function.identity(), (a, b) -> a, HashMap::new));
+    }
+
+    // tasks deleted since the graph last heard about them are left out
+    private static List<TaskScheduleDto> toDtos(List<Entry> entries, Map<Long, Task> tasks) {
+        return entries.stream()
+            .filter(entry -> tasks.containsKey(entry.taskId()))
+            .map(entry -> toDto(entry, tasks))
+            .toList();
+    }
+
+    private static TaskScheduleDto toDto(Entry entry, Map<Long, Task> tasks) {
+        Task task = tasks.get(entry.taskId());
+        return new TaskScheduleDto(entry.taskId(), task.getTitle(), task.getStatus(),
+            entry.dueDate(), entry.earliestFinish(), entry.late());
+    }
+}
@@ -0,0 +1,27 @@
+package com.taskbuddy.service.impl;
+
+import com.taskbuddy.dto.TaskDto;
+import com.taskbuddy.entity.Task;
+import lombok.AllArgsConstructor;
+import org.modelmapper.ModelMapper;
+import org.springframework.stereotype.Component;
+
+/**
+ * Task to TaskDto mapping shared by the task services. Expects the project and
+ * assignee to be loaded (or loadable) with the task.
+ */
+@Component
+@AllArgsConstructor
+class TaskDtoMapper {
+
+    private final ModelMapper modelMapper;
+
+    TaskDto toDto(Task task) {
+        TaskDto dto = modelMapper.map(task, TaskDto.class);
+        dto.setAssignedUserId(task.getAssignedUser() != null ? task.getAssignedUser().getId() : null);
+        dto.setAssignedUserName(task.getAssignedUser() != null ? task.getAssignedUser().getUsername() : null);
+        dto.setProjectId(task.getProject().getId());
+        dto.setProjectName(task.getProject().getName());
+        return dto;
+    }
+}
@@ -3,24 +3,50 @@ package com.taskbuddy.service.impl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
 import com.taskbuddy.repository.TaskRepository;
 import com.taskbuddy.repository.UserRepository;
 import com.taskbuddy.repository.ProjectRepository;
 import com.taskbuddy.repository.ProjectMemberRepository;
+import com.taskbuddy.repository.CommentRepository;
+import com.taskbuddy.repository.TaskDependencyRepository;
 import com.taskbuddy.entity.Task;
 import com.taskbuddy.entity.User;
 import com.taskbuddy.entity.Project;
 import com.taskbuddy.dto.TaskDto;
 import com.taskbuddy.dto.ApiResponse;
+import com.taskbuddy.dto.MoveTaskDto;
+import com.taskbuddy.dto.PageDto;
+import com.taskbuddy.enums.DueWindow;
+import com.taskbuddy.enums.TaskField;
 import com.taskbuddy.enums.TaskPriority;
 import com.taskbuddy.enums.TaskStatus;
 import com.taskbuddy.exception.ResourceNotFoundException;
 import com.taskbuddy.exception.InvalidInputException;
+import com.taskbuddy.exception.PreconditionFailedException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import com.taskbuddy.service.TaskService;
-import com.taskbuddy.service.NotificationService;
-
+import com.taskbuddy.event.TaskCreated;
+import com.taskbuddy.event.TaskDeleted;
+import com.taskbuddy.event.TaskFieldChange;
+import com.taskbuddy.event.TaskMoved;
+import com.taskbuddy.event.TaskReassigned;
+import com.taskbuddy.event.TaskStatusChanged;
+import com.taskbuddy.event.TaskUpdated;
+import com.taskbuddy.counter.ProjectTaskCounters;
+import com.taskbuddy.job.TaskRankRebalancer;
+import com.taskbuddy.rank.FractionalRank;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,12 +54,21 @@ import java.util.stream.Collectors;
 @AllArgsConstructor
 public class TaskServiceImpl implements TaskService {
 
+    // Tasks in these states no longer count as due
+    private static final Set<TaskStatus> CLOSED_STATUSES = EnumSet.of(TaskStatus.COMPLETED, TaskStatus.REJECTED);
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_UPCOMING_DAYS = 366;
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
     private final ProjectMemberRepository projectMemberRepository;
-    private final ModelMapper modelMapper;
-    private final NotificationService notificationService;
+    private final CommentRepository commentRepository;
+    private final TaskDependencyRepository dependencyRepository;
+    private final TaskDtoMapper taskDtoMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskRankRebalancer rankRebalancer;
+    private final ProjectTaskCounters taskCounters;
 
     @Override
     public ApiResponse<String> createTask(TaskDto taskDto, Long requestingUserId) {
@@ -52,6 +87,7 @@ public class TaskServiceImpl implements TaskService {
         task.setPriority(taskDto.getPriority() != null ? taskDto.getPriority() : TaskPriority.MEDIUM);
         task.setProject(project);
         task.setStatus(TaskStatus.PENDING);
+        task.setRank(appendRank(project.getId(), TaskStatus.PENDING));
         if (taskDto.getDueDate() != null) {
             task.setDueDate(taskDto.getDueDate());
         }
@@ -69,23 +105,21 @@ public class TaskServiceImpl implements TaskService {
 
             task.setAssignedUser(assignedUser);
             assigned = true;
-
-            notificationService.notifyTaskAssigned(
-                assignedUser.getId(),
-                task.getTitle(),
-                project.getName()
-            );
         }
 
         taskRepository.save(task);
+        taskCounters.recordTransition(project.getId(), null, TaskStatus.PENDING);
+        eventPublisher.publishEvent(new TaskCreated(project.getId(), task.getId(), task.getTitle(), project.getName(),
+            assigned ? task.getAssignedUser().getId() : null, requestingUserId));
         String msg = assigned ? "Task created and assigned successfully!" : "Task created successfully!";
         return new ApiResponse<>(true, msg, null);
     }
 
     @Override
-    public ApiResponse<String> updateTaskStatus(Long taskId, TaskStatus status, Long requestingUserId) {
-        Task task = taskRepository.findById(taskId)
+    public ApiResponse<String> updateTaskStatus(Long taskId, TaskStatus status, Long requestingUserId, Long expectedVersion) {
+        Task task = taskRepository.findWithAuthContextById(taskId)
             .orElseThrow(() -> new ResourceNotFoundException("Task not found!"));
+        checkVersion(task, expectedVersion);
 
         if (task.getAssignedUser() == null) {
             throw new InvalidInputException("Task is not assigned to any user!");
@@ -94,14 +128,19 @@ public class TaskServiceImpl implements TaskService {
             throw new InvalidInputException("Only assigned user can change task status!");
         }
 
-        task.setStatus(status);
-        taskRepository.save(task);
+        // a card entering another column goes to its bottom
+        boolean statusChanged = status != task.getStatus();
+        String rank = statusChanged ? appendRank(task.getProject().getId(), status) : task.getRank();
+        if (taskRepository.updateStatus(taskId, status, rank, startedAt(status), task.getVersion()) == 0) {
+            throw new ObjectOptimisticLockingFailureException(Task.class, taskId);
+        }
+        taskCounters.recordTransition(task.getProject().getId(), task.getStatus(), status);
 
-        notificationService.notifyTaskStatusChanged(
-            task.getProject().getManager().getId(),
-            task.getTitle(),
-            status.toString()
-        );
+        // re-sending the current status is a no-op for activity, notifications and flow metrics
+        if (statusChanged) {
+            eventPublisher.publishEvent(new TaskStatusChanged(task.getProject().getId(), taskId, task.getTitle(),
+                task.getStatus(), status, task.getProject().getManager().getId(), requestingUserId));
+        }
 
         String pretty = status.name().replace('_', ' ').toLowerCase();
         return new ApiResponse<>(true, "Task " + pretty + " successfully!", null);
@@ -109,31 +148,37 @@ public class TaskServiceImpl implements TaskService {
 
     @Override
     public ApiResponse<String> reassignTask(Long taskId, Long newAssigneeId, Long requestingUserId) {
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findWithAuthContextById(taskId)
             .orElseThrow(() -> new ResourceNotFoundException("Task not found!"));
 
         if (!task.getProject().getManager().getId().equals(requestingUserId)) {
             throw new InvalidInputException("Only project manager can reassign tasks!");
         }
 
-        User newAssignee = userRepository.findById(newAssigneeId)
-            .orElseThrow(() -> new ResourceNotFoundException("New assignee not found!"));
-
+        // Membership (query-cached) also proves the user exists; only look the user up to pick the error
         boolean isMember =
-            projectMemberRepository.existsByProjectIdAndUserId(task.getProject().getId(), newAssignee.getId());
+            projectMemberRepository.existsByProjectIdAndUserId(task.getProject().getId(), newAssigneeId);
         if (!isMember) {
+            if (!userRepository.existsById(newAssigneeId)) {
+                throw new ResourceNotFoundException("New assignee not found!");
+            }
             throw new InvalidInputException("Cannot assign task to user who is not a project member!");
         }
 
-        task.setAssignedUser(newAssignee);
-        task.setStatus(TaskStatus.PENDING); // reset upon reassignment
-        taskRepository.save(task);
+        // reset status upon reassignment
+        String rank = task.getStatus() == TaskStatus.PENDING
+            ? task.getRank()
+            : appendRank(task.getProject().getId(), TaskStatus.PENDING);
+        // CAS on the version read above, so the status the counters move out of is still current
+        if (taskRepository.updateAssignee(taskId, userRepository.getReferenceById(newAssigneeId),
+                TaskStatus.PENDING, rank, task.getVersion()) == 0) {
+            throw new ObjectOptimisticLockingFailureException(Task.class, taskId);
+        }
+        taskCounters.recordTransition(task.getProject().getId(), task.getStatus(), TaskStatus.PENDING);
 
-        notificationService.notifyTaskAssigned(
-            newAssignee.getId(),
-            task.getTitle(),
-            task.getProject().getName()
-        );
+        Long previousAssigneeId = task.getAssignedUser() != null ? task.getAssignedUser().getId() : null;
+        eventPublisher.publishEvent(new TaskReassigned(task.getProject().getId(), taskId, task.getTitle(),
+            task.getProject().getName(), previousAssigneeId, newAssigneeId, task.getStatus(), requestingUserId));
 
         return new ApiResponse<>(true, "Task reassigned successfully!", null);
     }
@@ -142,27 +187,17 @@ public class TaskServiceImpl implements TaskService {
     public ApiResponse<List<TaskDto>> getAllTasks() {
         var tasks = taskRepository.findAll();
         var taskDtos = tasks.stream()
-            .map(task -> {
-                TaskDto dto = modelMapper.map(task, TaskDto.class);
-                dto.setAssignedUserId(task.getAssignedUser() != null ? task.getAssignedUser().getId() : null);
-                dto.setAssignedUserName(task.getAssignedUser() != null ? task.getAssignedUser().getUsername() : null);
-                dto.setProjectName(task.getProject().getName());
-                return dto;
-            })
+            .map(taskDtoMapper::toDto)
             .collect(Collectors.toList());
         return new ApiResponse<>(true, "Tasks retrieved successfully!", taskDtos);
     }
 
     @Override
     public ApiResponse<TaskDto> getTaskById(Long taskId) {
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findWithAuthContextById(taskId)
             .orElseThrow(() -> new ResourceNotFoundException("Task not found!"));
 
-        TaskDto dto = modelMapper.map(task, TaskDto.class);
-        dto.setAssignedUserId(task.getAssignedUser() != null ? task.getAssignedUser().getId() : null);
-        dto.setAssignedUserName(task.getAssignedUser() != null ? task.getAssignedUser().getUsername() : null);
-        dto.setProjectName(task.getProject().getName());
-        return new ApiResponse<>(true, "Task retrieved successfully!", dto);
+        return new ApiResponse<>(true, "Task retrieved successfully!", taskDtoMapper.toDto(task));
     }
 
     @Override
@@ -172,21 +207,44 @@ public class TaskServiceImpl implements TaskService {
 
         var tasks = taskRepository.findByProject(project);
         var taskDtos = tasks.stream()
-            .map(task -> {
-                TaskDto dto = modelMapper.map(task, TaskDto.class);
-                dto.setAssignedUserId(task.getAssignedUser() != null ? task.getAssignedUser().getId() : null);
-                dto.setAssignedUserName(task.getAssignedUser() != null ? task.getAssignedUser().getUsername() : null);
-                dto.setProjectName(task.getProject().getName());
-                return dto;
-            })
+            .map(taskDtoMapper::toDto)
             .collect(Collectors.toList());
         return new ApiResponse<>(true, "Project tasks retrieved successfully!", taskDtos);
     }
 
     @Override
-    public ApiResponse<String> updateTask(Long taskId, TaskDto taskDto, Long requestingUserId) {
-        Task task = taskRepository.findById(taskId)
+    @Transactional(readOnly = true)
+    public ApiResponse<PageDto<TaskDto>> getDueTasksForUser(Long userId, DueWindow window, int days, int page, int size) {
+        LocalDate today = LocalDate.now();
+        Pageable pageable = pageRequest(page, size);
+        Slice<Task> tasks = switch (window) {
+            case OVERDUE -> taskRepository.findOpenDueBeforeForUser(userId, today, CLOSED_STATUSES, pageable);
+            case TODAY -> taskRepository.findOpenDueBetweenForUser(userId, today, today, CLOSED_STATUSES, pageable);
+            case UPCOMING -> taskRepository.findOpenDueBetweenForUser(userId, today, upcomingEnd(today, days),
+                CLOSED_STATUSES, pageable);
+        };
+        return new ApiResponse<>(true, "Due tasks retrieved successfully!", PageDto.of(tasks, taskDtoMapper::toDto));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse<PageDto<TaskDto>> getDueTasksForProject(Long projectId, DueWindow window, int days, int page, int size) {
+        LocalDate today = LocalDate.now();
+        Pageable pageable = pageRequest(page, size);
+        Slice<Task> tasks = switch (window) {
+            case OVERDUE -> taskRepository.findOpenDueBeforeForProject(projectId, today, CLOSED_STATUSES, pageable);
+            case TODAY -> taskRepository.findOpenDueBetweenForProject(projectId, today, today, CLOSED_STATUSES, pageable);
+            case UPCOMING -> taskRepository.findOpenDueBetweenForProject(projectId, today, upcomingEnd(today, days),
+                CLOSED_STATUSES, pageable);
+        };
+        return new ApiResponse<>(true, "Due tasks retrieved successfully!", PageDto.of(tasks, taskDtoMapper::toDto));
+    }
+
+    @Override
+    public ApiResponse<String> updateTask(Long taskId, TaskDto taskDto, Long requestingUserId, Long expectedVersion) {
+        Task task = taskRepository.findWithAuthContextById(taskId)
             .orElseThrow(() -> new ResourceNotFoundException("Task not found!"));
+        checkVersion(task, expectedVersion);
 
         boolean isManager = task.getProject().getManager().getId().equals(requestingUserId);
         boolean isAssignee = task.getAssignedUser() != null &&
@@ -195,25 +253,136 @@ public class TaskServiceImpl implements TaskService {
             throw new InvalidInputException("Only project manager or assigned user can update this task!");
         }
 
-        if (taskDto.getTitle() != null) task.setTitle(taskDto.getTitle());
-        if (taskDto.getDescription() != null) task.setDescription(taskDto.getDescription());
-        if (taskDto.getPriority() != null) task.setPriority(taskDto.getPriority());
-        if (taskDto.getDueDate() != null) task.setDueDate(taskDto.getDueDate());
+        List<TaskFieldChange> changes = new ArrayList<>();
+        if (taskDto.getTitle() != null) {
+            recordChange(changes, TaskField.TITLE, task.getTitle(), taskDto.getTitle());
+            task.setTitle(taskDto.getTitle());
+        }
+        if (taskDto.getDescription() != null) {
+            recordChange(changes, TaskField.DESCRIPTION, task.getDescription(), taskDto.getDescription());
+            task.setDescription(taskDto.getDescription());
+        }
+        if (taskDto.getPriority() != null) {
+            recordChange(changes, TaskField.PRIORITY, task.getPriority(), taskDto.getPriority());
+            task.setPriority(taskDto.getPriority());
+        }
+        if (taskDto.getDueDate() != null) {
+            recordChange(changes, TaskField.DUE_DATE, task.getDueDate(), taskDto.getDueDate());
+            task.setDueDate(taskDto.getDueDate());
+        }
 
         taskRepository.save(task);
+        eventPublisher.publishEvent(new TaskUpdated(task.getProject().getId(), taskId, requestingUserId, changes));
         return new ApiResponse<>(true, "Task updated successfully!", null);
     }
 
+    @Override
+    public ApiResponse<String> moveTask(Long taskId, MoveTaskDto move, Long requestingUserId, Long expectedVersion) {
+        Task task = taskRepository.findWithAuthContextById(taskId)
+            .orElseThrow(() -> new ResourceNotFoundException("Task not found!"));
+        checkVersion(task, expectedVersion);
+        Long projectId = task.getProject().getId();
+        TaskStatus status = move.getStatus() != null ? move.getStatus() : task.getStatus();
+
+        boolean statusChanged = status != task.getStatus();
+        if (statusChanged && (task.getAssignedUser() == null || !task.getAssignedUser().getId().equals(requestingUserId))) {
+            throw new InvalidInputException("Only assigned user can change task status!");
+        }
+
+        // The client names only the card above; the one below is looked up, so a stale board cannot misorder
+        String previousRank = null;
+        if (move.getAfterTaskId() != null) {
+            Task previous = taskRepository.findById(move.getAfterTaskId())
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found!"));
+            if (previous.getId().equals(taskId) || !previous.getProject().getId().equals(projectId)
+                    || previous.getStatus() != status || previous.getRank() == null) {
+                throw new InvalidInputException("Task can only be placed after another task in the same column!");
+            }
+            previousRank = previous.getRank();
+        }
+        String nextRank = taskRepository.findNextRank(projectId, status, previousRank != null ? previousRank : "", taskId);
+
+        String rank;
+        try {
+            rank = FractionalRank.between(previousRank, nextRank);
+        } catch (IllegalArgumentException e) {
+            // two cards share a rank (concurrent moves); even out the column and let the client retry
+            rankRebalancer.requestRebalance(projectId, status);
+            throw new InvalidInputException("Board order is being repaired, try again shortly!");
+        }
+        rankRebalancer.requestRebalance(projectId, status, rank);
+
+        if (taskRepository.moveTask(taskId, status, rank, startedAt(status), task.getVersion()) == 0) {
+            throw new ObjectOptimisticLockingFailureException(Task.class, taskId);
+        }
+        taskCounters.recordTransition(projectId, task.getStatus(), status);
+
+        if (statusChanged) {
+            eventPublisher.publishEvent(new TaskStatusChanged(projectId, taskId, task.getTitle(),
+                task.getStatus(), status, task.getProject().getManager().getId(), requestingUserId));
+        } else {
+            eventPublisher.publishEvent(new TaskMoved(projectId, taskId, requestingUserId));
+        }
+        return new ApiResponse<>(true, "Task moved successfully!", null);
+    }
+
     @Override
     public ApiResponse<String> deleteTask(Long taskId, Long requestingUserId) {
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findWithAuthContextById(taskId)
             .orElseThrow(() -> new ResourceNotFoundException("Task not found!"));
 
         if (!task.getProject().getManager().getId().equals(requestingUserId)) {
             throw new InvalidInputException("Only project manager can delete tasks!");
         }
 
-        taskRepository.deleteById(taskId);
+        // Bulk deletes: no second load of the task and no per-comment cascade. The comments
+        // foreign key has no ON DELETE CASCADE (ddl-auto=update cannot add one to an existing
+        // constraint) and links are plain id columns, so both are cleared explicitly
+        commentRepository.deleteAllByTaskId(taskId);
+        dependencyRepository.deleteAllByTaskId(taskId);
+        if (taskRepository.deleteTaskById(taskId) > 0) {
+            taskCounters.recordTransition(task.getProject().getId(), task.getStatus(), null);
+        }
+        eventPublisher.publishEvent(new TaskDeleted(task.getProject().getId(), taskId, task.getTitle(), task.getStatus(), requestingUserId));
         return new ApiResponse<>(true, "Task deleted successfully!", null);
     }
+
+    // Stamp for the first move to IN_PROGRESS; the update keeps an existing value
+    private static LocalDateTime startedAt(TaskStatus status) {
+        return status == TaskStatus.IN_PROGRESS ? LocalDateTime.now() : null;
+    }
+
+    private static void recordChange(List<TaskFieldChange> changes, TaskField field, Object oldValue, Object newValue) {
+        if (!Objects.equals(oldValue, newValue)) {
+            changes.add(new TaskFieldChange(field, Objects.toString(oldValue, null), Objects.toString(newValue, null)));
+        }
+    }
+
+    // Rank after the last card of a column
+    private String appendRank(Long projectId, TaskStatus status) {
+        String rank = FractionalRank.between(taskRepository.findMaxRank(projectId, status), null);
+        rankRebalancer.requestRebalance(projectId, status, rank);
+        return rank;
+    }
+
+    private static Pageable pageRequest(int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidInputException("Page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE + "!");
+        }
+        return PageRequest.of(page, size);
+    }
+
+    private static LocalDate upcomingEnd(LocalDate today, int days) {
+        if (days < 1 || days > MAX_UPCOMING_DAYS) {
+            throw new InvalidInputException("Days must be between 1 and " + MAX_UPCOMING_DAYS + "!");
+        }
+        // the window starts today, so 'days' days end on today + days - 1
+        return today.plusDays(days - 1L);
+    }
+
+    private void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new PreconditionFailedException("Task has been modified by someone else. Reload and try again.");
+        }
+    }
 }
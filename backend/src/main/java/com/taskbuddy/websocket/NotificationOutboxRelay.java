@@ -0,0 +1,137 @@
+package com.taskbuddy.websocket;
+
+import com.taskbuddy.config.AsyncConfig;
+import com.taskbuddy.entity.OutboxMessage;
+import com.taskbuddy.event.NotificationQueued;
+import com.taskbuddy.repository.OutboxMessageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the notification outbox into WebSocket pushes.
+ *
+ * <p>Rows are read in batches, grouped per recipient and sent as one JSON array
+ * frame per recipient, then deleted. Delivery happens outside any business
+ * transaction, after the rows are committed, so clients never see notifications
+ * of rolled-back changes and slow sockets never hold a database connection.
+ * A crash between push and delete re-sends the rows (at-least-once); clients
+ * de-duplicate on {@code deliveryId}. Failed pushes are retried with exponential
+ * backoff up to {@code max-attempts}.</p>
+ *
+ * <p>The relay is woken right after commit by {@link NotificationQueued} and also
+ * polls, which picks up retries and rows left behind by a restart.</p>
+ */
+@Component
+@Slf4j
+public class NotificationOutboxRelay {
+
+    private final OutboxMessageRepository outboxRepository;
+    private final NotificationWebSocketHandler webSocketHandler;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final AtomicBoolean pending = new AtomicBoolean();
+
+    public NotificationOutboxRelay(OutboxMessageRepository outboxRepository,
+                                   NotificationWebSocketHandler webSocketHandler,
+                                   @Value("${taskbuddy.outbox.batch-size:200}") int batchSize,
+                                   @Value("${taskbuddy.outbox.max-attempts:5}") int maxAttempts,
+                                   @Value("${taskbuddy.outbox.retry-backoff-ms:2000}") long retryBackoffMs) {
+        this.outboxRepository = outboxRepository;
+        this.webSocketHandler = webSocketHandler;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+    }
+
+    // suspends the just-committed transaction when run on the committing thread
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onNotificationQueued(NotificationQueued event) {
+        drain();
+    }
+
+    /**
+     * Relay everything that is due. Concurrent callers do not queue up behind the
+     * lock: they flag more work and the thread holding the lock drains again.
+     */
+    @Scheduled(fixedDelayString = "${taskbuddy.outbox.poll-interval-ms:5000}")
+    public void drain() {
+        pending.set(true);
+        do {
+            if (!drainLock.tryLock()) {
+                return;
+            }
+            try {
+                while (pending.getAndSet(false)) {
+                    while (relayBatch() == batchSize) {
+                        // full batch, there may be more
+                    }
+                }
+            } catch (Exception e) {
+                log.error("Outbox relay failed: {}", e.getMessage(), e);
+            } finally {
+                drainLock.unlock();
+            }
+        } while (pending.get());
+    }
+
+    private int relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxMessage> batch =
+            outboxRepository.findByAvailableAtLessThanEqualOrderByIdAsc(now, Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, List<OutboxMessage>> byRecipient = batch.stream()
+            .collect(Collectors.groupingBy(OutboxMessage::getRecipientId, LinkedHashMap::new, Collectors.toList()));
+
+        List<Long> finished = new ArrayList<>();
+        byRecipient.forEach((recipientId, messages) -> {
+            List<Long> ids = messages.stream().map(OutboxMessage::getId).toList();
+            String frame = messages.stream()
+                .map(OutboxMessage::getPayload)
+                .collect(Collectors.joining(",", "[", "]"));
+
+            if (webSocketHandler.deliver(recipientId, frame)) {
+                finished.addAll(ids);
+                return;
+            }
+
+            int attempts = messages.stream().mapToInt(OutboxMessage::getAttempts).max().orElse(0) + 1;
+            if (attempts >= maxAttempts) {
+                // Still readable through the notifications API; stop pushing
+                log.warn("Dropping {} outbox messages for user {} after {} attempts", ids.size(), recipientId, attempts);
+                finished.addAll(ids);
+            } else {
+                outboxRepository.markFailed(ids, now.plus(Duration.ofMillis(retryBackoffMs << (attempts - 1))));
+            }
+        });
+
+        if (!finished.isEmpty()) {
+            outboxRepository.deleteAllByIdInBatch(finished);
+        }
+        return batch.size();
+    }
+}
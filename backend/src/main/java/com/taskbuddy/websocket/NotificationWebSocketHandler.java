@@ -1,7 +1,5 @@
 package com.taskbuddy.websocket;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.taskbuddy.dto.NotificationDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -21,17 +19,15 @@ import java.util.concurrent.CopyOnWriteArrayList;
  * WebSocket handler that manages client connections and broadcasts
  * notification messages to connected users.  Each connected WebSocket
  * session is associated with a user ID via attributes set by
- * {@link NotificationHandshakeInterceptor}.  When a notification is
- * created, the {@link #sendNotification(Long, NotificationDto)} method
- * is called to push the message to all sessions for the user.
+ * {@link NotificationHandshakeInterceptor}.  Notifications reach it
+ * through {@link NotificationOutboxRelay}, which calls
+ * {@link #deliver(Long, String)} to push them to all sessions for the user.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationWebSocketHandler implements WebSocketHandler {
 
-    private final ObjectMapper objectMapper;
-
     /**
      * Map of userId to a list of active WebSocket sessions.  A user can
      * have multiple sessions open (e.g. different browser tabs or devices).
@@ -89,23 +85,33 @@ public class NotificationWebSocketHandler implements WebSocketHandler {
     }
 
     /**
-     * Sends a notification DTO to all active WebSocket sessions for the given
-     * user.  If a session fails, it is removed from the list.
+     * Sends an already serialized frame to all active sessions of the user.
      *
      * @param userId the recipient user ID
-     * @param dto    the notification DTO to send
+     * @param json   the frame to send
+     * @return {@code false} only if the user had open sessions and none of them
+     *         accepted the frame; a user without sessions counts as delivered
+     *         (they load unread notifications over REST when they come back)
      */
-    public void sendNotification(Long userId, NotificationDto dto) {
+    public boolean deliver(Long userId, String json) {
         List<WebSocketSession> sessions = userSessions.get(userId);
         if (sessions == null || sessions.isEmpty()) {
-            return;
+            return true;
         }
+        boolean delivered = false;
+        boolean attempted = false;
+        TextMessage message = new TextMessage(json);
         for (WebSocketSession session : sessions) {
+            if (!session.isOpen()) {
+                continue;
+            }
+            attempted = true;
             try {
-                if (session.isOpen()) {
-                    String json = objectMapper.writeValueAsString(dto);
-                    session.sendMessage(new TextMessage(json));
+                // sessions are not safe for concurrent sends
+                synchronized (session) {
+                    session.sendMessage(message);
                 }
+                delivered = true;
             } catch (IOException e) {
                 log.warn("Failed to send WebSocket notification to user {}: {}", userId, e.getMessage());
                 try {
@@ -115,5 +121,6 @@ public class NotificationWebSocketHandler implements WebSocketHandler {
                 }
             }
         }
+        return delivered || !attempted;
     }
-}
\ No newline at end of file
+}
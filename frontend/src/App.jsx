@@ -21,6 +21,7 @@ import TaskDetails from "./pages/TaskDetails";
 import MemberList from "./pages/MemberList";
 import NotificationPage from "./pages/NotificationPage";
 import InvitePage from "./pages/InvitePage";
+import SearchPage from "./pages/SearchPage";
 import Login from "./pages/Login";
 import Register from "./pages/Register";
 import ForgotPassword from "./pages/ForgotPassword";
@@ -56,6 +57,7 @@ function App() {
           <Route path="/projects/:projectId/members" element={<PrivateRoute><MemberList /></PrivateRoute>} />
           <Route path="/notifications" element={<PrivateRoute><NotificationPage /></PrivateRoute>} />
           <Route path="/invites" element={<PrivateRoute><InvitePage /></PrivateRoute>} />
+          <Route path="/search" element={<PrivateRoute><SearchPage /></PrivateRoute>} />
           <Route path="/profile" element={<PrivateRoute><UserProfile /></PrivateRoute>} />
         </Routes>
         </ErrorBoundary>
@@ -1,4 +1,5 @@
 import api from "../lib/axios";
+import { ifMatch } from "./utils";
 
 export function getAllProjects() {
   return api.get("/projects")
@@ -31,10 +32,26 @@ export function getProject(id) {
     });
 }
 
-export function updateProject(id, data) {
-  return api.put(`/projects/${id}`, data);
+// Project, members, tasks and the caller's role in one request
+export function getProjectView(id) {
+  return api.get(`/projects/${id}/view`)
+    .then(response => ({ ...response, data: response.data.data }));
 }
 
-export function updateProjectStatus(id, status) {
-  return api.patch(`/projects/${id}/status?status=${status}`);
+// Pass the project's `version` to make the write conditional (If-Match)
+export function updateProject(id, data, version) {
+  return api.put(`/projects/${id}`, data, ifMatch(version));
+}
+
+export function updateProjectStatus(id, status, version) {
+  return api.patch(`/projects/${id}/status?status=${status}`, null, ifMatch(version));
+}
+
+// Flow analytics from daily rollups; from/to are ISO dates, default last 30 days
+export function getProjectBurndown(id, from, to) {
+  return api.get(`/projects/${id}/analytics/burndown`, { params: { from, to } });
+}
+
+export function getProjectFlowTimes(id, from, to) {
+  return api.get(`/projects/${id}/analytics/flow-times`, { params: { from, to } });
 }
@@ -0,0 +1,12 @@
+import api from "../lib/axios";
+
+// Full-text search over the current user's projects; `type` is
+// task | project | comment, or omitted for everything.
+export function search(q, type, limit = 20) {
+  return api.get("/search", { params: { q, type: type || undefined, limit } });
+}
+
+// Name prefix matches for the quick switcher; cheap enough to call per keystroke.
+export function quickSwitch(q, limit = 10) {
+  return api.get("/search/quick", { params: { q, limit } });
+}
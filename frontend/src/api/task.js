@@ -1,4 +1,5 @@
 import api from "../lib/axios";
+import { ifMatch } from "./utils";
 
 export function getTasksByProject(projectId) {
   return api.get(`/tasks/project/${projectId}`)
@@ -20,6 +21,30 @@ export function getAllTasks() {
     });
 }
 
+// Kanban board: { projectId, columns: [{ status, count, cards, nextCursor }] }
+export function getTaskBoard(projectId, perColumn = 20) {
+  return api.get(`/tasks/project/${projectId}/board`, { params: { perColumn } })
+    .then(response => ({ ...response, data: response.data.data }));
+}
+
+// Next cards of one board column; `after` is the column's nextCursor
+export function getTaskBoardColumn(projectId, status, after, size = 20) {
+  return api.get(`/tasks/project/${projectId}/board/${status}`, { params: { after, size } })
+    .then(response => ({ ...response, data: response.data.data }));
+}
+
+// Open tasks by due date; window is "overdue", "today" or "upcoming".
+// Resolves to a page: { content, page, size, hasNext }.
+export function getMyDueTasks(window, { days = 7, page = 0, size = 20 } = {}) {
+  return api.get(`/tasks/due/${window}`, { params: { days, page, size } })
+    .then(response => ({ ...response, data: response.data.data }));
+}
+
+export function getProjectDueTasks(projectId, window, { days = 7, page = 0, size = 20 } = {}) {
+  return api.get(`/tasks/project/${projectId}/due/${window}`, { params: { days, page, size } })
+    .then(response => ({ ...response, data: response.data.data }));
+}
+
 export function createTask(data) {
   return api.post("/tasks", data);
 }
@@ -34,12 +59,47 @@ export function getTask(id) {
     });
 }
 
-export function updateTask(id, data) {
-  return api.put(`/tasks/${id}`, data);
+// Pass the task's `version` to make the write conditional (If-Match);
+// the server answers 412 if someone else changed the task in between.
+export function updateTask(id, data, version) {
+  return api.put(`/tasks/${id}`, data, ifMatch(version));
+}
+
+export function updateTaskStatus(id, status, version) {
+  return api.put(`/tasks/${id}/status?status=${status}`, null, ifMatch(version));
+}
+
+// Moves a card on the board: `afterTaskId` is the card it should follow in the
+// target column (null for the top); a different `status` changes the column.
+export function moveTask(id, { status, afterTaskId }, version) {
+  return api.put(`/tasks/${id}/move`, { status, afterTaskId: afterTaskId ?? null }, ifMatch(version));
+}
+
+// Change history, newest first: { content, page, size, hasNext }
+export function getTaskActivity(id, page = 0, size = 20) {
+  return api.get(`/tasks/${id}/activity`, { params: { page, size } });
+}
+
+export function getProjectActivity(projectId, page = 0, size = 20) {
+  return api.get(`/tasks/project/${projectId}/activity`, { params: { page, size } });
+}
+
+// Blockers and blocked tasks, each with dueDate, earliestFinish and late
+export function getTaskDependencies(id) {
+  return api.get(`/tasks/${id}/dependencies`);
+}
+
+export function addTaskDependency(id, blockerId) {
+  return api.post(`/tasks/${id}/dependencies/${blockerId}`);
+}
+
+export function removeTaskDependency(id, blockerId) {
+  return api.delete(`/tasks/${id}/dependencies/${blockerId}`);
 }
 
-export function updateTaskStatus(id, status) {
-  return api.put(`/tasks/${id}/status?status=${status}`);
+// { projectedFinish, path, lateTasks }
+export function getCriticalPath(projectId) {
+  return api.get(`/tasks/project/${projectId}/critical-path`);
 }
 
 export function reassignTask(id, newAssigneeId) {
@@ -46,3 +46,12 @@ export function extractApiMessage(response) {
 
 // Alias for backward compatibility
 export const extractData = extractApiData;
+
+/**
+ * Axios request config carrying an If-Match header for a conditional write.
+ * Returns an empty config when no version is known (unconditional write).
+ */
+export function ifMatch(version) {
+  if (version === undefined || version === null) return {};
+  return { headers: { "If-Match": `"${version}"` } };
+}
@@ -0,0 +1,45 @@
+// src/components/CriticalPath.jsx
+import React, { useEffect, useState } from "react";
+import { Link } from "react-router-dom";
+import { getCriticalPath } from "../api/task";
+import { formatDate } from "../utils/badgeUtils";
+
+// The chain of blocking tasks that decides when the project can finish.
+export default function CriticalPath({ projectId }) {
+  const [data, setData] = useState(null);
+
+  useEffect(() => {
+    getCriticalPath(projectId)
+      .then(res => setData(res.data.data))
+      .catch(err => console.error("Error loading critical path:", err));
+  }, [projectId]);
+
+  if (!data || data.path.length === 0) return null;
+
+  return (
+    <div className="card mb-4">
+      <div className="card-header d-flex justify-content-between align-items-center">
+        <h6 className="mb-0"><i className="fas fa-route me-2"></i>Critical path</h6>
+        <small className="text-muted">Projected finish: {formatDate(data.projectedFinish)}</small>
+      </div>
+      <ol className="list-group list-group-flush list-group-numbered">
+        {data.path.map(entry => (
+          <li key={entry.taskId} className="list-group-item small d-flex justify-content-between">
+            <span>
+              <Link to={`/projects/${projectId}/tasks/${entry.taskId}`}>{entry.title}</Link>
+              {entry.late && <span className="badge bg-danger ms-2">late</span>}
+            </span>
+            <span className="text-muted">
+              due {entry.dueDate ? formatDate(entry.dueDate) : "—"}, finishes {formatDate(entry.earliestFinish)}
+            </span>
+          </li>
+        ))}
+      </ol>
+      {data.lateTasks.length > 0 && (
+        <div className="card-footer small text-danger">
+          {data.lateTasks.length} task{data.lateTasks.length === 1 ? " is" : "s are"} pushed past the due date by blockers.
+        </div>
+      )}
+    </div>
+  );
+}
@@ -2,6 +2,7 @@
 import React from "react";
 import { Link, useLocation } from "react-router-dom";
 import { useAuth } from "../context/AuthContext";
+import QuickSwitcher from "./QuickSwitcher";
 
 export default function Navbar() {
   const { user, logout } = useAuth();
@@ -55,9 +56,17 @@ export default function Navbar() {
                   Invites
                 </Link>
               </li>
+              <li className="nav-item">
+                <Link className={`nav-link ${isActive('/search')}`} to="/search">
+                  <i className="fas fa-search me-1"></i>
+                  Search
+                </Link>
+              </li>
             </ul>
           )}
 
+          {user && <QuickSwitcher />}
+
           <ul className="navbar-nav">
             {user ? (
               <li className="nav-item dropdown">
@@ -0,0 +1,79 @@
+// src/components/ProjectAnalytics.jsx
+import React, { useEffect, useState } from "react";
+import { getProjectBurndown, getProjectFlowTimes } from "../api/project";
+
+const SERIES = [
+  { key: "open", label: "Open", color: "#6c757d" },
+  { key: "inProgress", label: "In progress", color: "#0dcaf0" },
+  { key: "completed", label: "Completed", color: "#198754" }
+];
+
+const WIDTH = 600;
+const HEIGHT = 160;
+
+// Burndown over the last 30 days plus lead / cycle time, all read from the server's rollups.
+export default function ProjectAnalytics({ projectId }) {
+  const [days, setDays] = useState([]);
+  const [times, setTimes] = useState(null);
+
+  useEffect(() => {
+    getProjectBurndown(projectId).then(res => setDays(res.data.data || [])).catch(() => setDays([]));
+    getProjectFlowTimes(projectId).then(res => setTimes(res.data.data)).catch(() => setTimes(null));
+  }, [projectId]);
+
+  if (days.length === 0) return null;
+
+  const max = Math.max(1, ...days.flatMap(d => SERIES.map(s => d[s.key])));
+  const x = i => (days.length === 1 ? WIDTH / 2 : (i * WIDTH) / (days.length - 1));
+  const y = v => HEIGHT - (v * HEIGHT) / max;
+
+  const statsRow = (label, stats) => (
+    <tr>
+      <td>{label}</td>
+      <td>{stats.count}</td>
+      <td>{stats.meanHours}</td>
+      <td>{stats.p50Hours}</td>
+      <td>{stats.p85Hours}</td>
+      <td>{stats.p95Hours}</td>
+    </tr>
+  );
+
+  return (
+    <div className="card mb-4">
+      <div className="card-header">
+        <h6 className="mb-0"><i className="fas fa-chart-line me-2"></i>Flow (last 30 days)</h6>
+      </div>
+      <div className="card-body">
+        <svg viewBox={`0 -5 ${WIDTH} ${HEIGHT + 10}`} className="w-100" style={{ maxHeight: 200 }}>
+          {SERIES.map(s => (
+            <polyline
+              key={s.key}
+              fill="none"
+              stroke={s.color}
+              strokeWidth="2"
+              points={days.map((d, i) => `${x(i)},${y(d[s.key])}`).join(" ")}
+            />
+          ))}
+        </svg>
+        <div className="small mb-3">
+          {SERIES.map(s => (
+            <span key={s.key} className="me-3">
+              <span style={{ color: s.color }}>■</span> {s.label}: {days[days.length - 1][s.key]}
+            </span>
+          ))}
+        </div>
+        {times && (
+          <table className="table table-sm small mb-0">
+            <thead>
+              <tr><th></th><th>Tasks</th><th>Mean (h)</th><th>p50 (h)</th><th>p85 (h)</th><th>p95 (h)</th></tr>
+            </thead>
+            <tbody>
+              {statsRow("Lead time", times.leadTime)}
+              {statsRow("Cycle time", times.cycleTime)}
+            </tbody>
+          </table>
+        )}
+      </div>
+    </div>
+  );
+}
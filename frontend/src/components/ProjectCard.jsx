@@ -2,6 +2,15 @@
 import React from "react";
 import { Link } from "react-router-dom";
 
+// Progress bar segments, in the order they are drawn
+const PROGRESS_SEGMENTS = [
+  { status: 'COMPLETED', label: 'Completed', className: 'bg-success' },
+  { status: 'IN_PROGRESS', label: 'In progress', className: 'bg-primary' },
+  { status: 'ACCEPTED', label: 'Accepted', className: 'bg-info' },
+  { status: 'PENDING', label: 'Pending', className: 'bg-secondary' },
+  { status: 'REJECTED', label: 'Rejected', className: 'bg-danger' },
+];
+
 export default function ProjectCard({ project }) {
   const getStatusClass = (status) => {
     switch (status?.toLowerCase()) {
@@ -17,6 +26,9 @@ export default function ProjectCard({ project }) {
     return new Date(dateString).toLocaleDateString();
   };
 
+  const counts = project.statusCounts || {};
+  const total = PROGRESS_SEGMENTS.reduce((sum, s) => sum + (counts[s.status] || 0), 0);
+
   return (
     <div className="col-lg-4 col-md-6 mb-4">
       <div className="card h-100">
@@ -58,6 +70,19 @@ export default function ProjectCard({ project }) {
                 Tasks: {project.taskCount || 0}
               </small>
             </div>
+            {total > 0 && (
+              <div className="progress mt-2" style={{ height: '8px' }}>
+                {PROGRESS_SEGMENTS.filter(s => counts[s.status] > 0).map(s => (
+                  <div
+                    key={s.status}
+                    className={`progress-bar ${s.className}`}
+                    role="progressbar"
+                    style={{ width: `${(counts[s.status] / total) * 100}%` }}
+                    title={`${s.label}: ${counts[s.status]}`}
+                  />
+                ))}
+              </div>
+            )}
           </div>
         </div>
 
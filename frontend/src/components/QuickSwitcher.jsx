@@ -0,0 +1,93 @@
+// src/components/QuickSwitcher.jsx
+import React, { useEffect, useRef, useState } from "react";
+import { useNavigate } from "react-router-dom";
+import { quickSwitch } from "../api/search";
+
+// Jump to a project or task by typing part of its name; Ctrl+K focuses it.
+export default function QuickSwitcher() {
+  const navigate = useNavigate();
+  const inputRef = useRef(null);
+  const [text, setText] = useState("");
+  const [matches, setMatches] = useState([]);
+  const [selected, setSelected] = useState(0);
+
+  useEffect(() => {
+    const onKey = (e) => {
+      if ((e.ctrlKey || e.metaKey) && e.key.toLowerCase() === "k") {
+        e.preventDefault();
+        inputRef.current?.focus();
+      }
+    };
+    window.addEventListener("keydown", onKey);
+    return () => window.removeEventListener("keydown", onKey);
+  }, []);
+
+  useEffect(() => {
+    if (!text.trim()) {
+      setMatches([]);
+      return;
+    }
+    // ignore answers to keystrokes that were already superseded
+    let current = true;
+    quickSwitch(text)
+      .then(res => {
+        if (current) {
+          setMatches(res.data.data || []);
+          setSelected(0);
+        }
+      })
+      .catch(() => current && setMatches([]));
+    return () => { current = false; };
+  }, [text]);
+
+  const open = (item) => {
+    setText("");
+    setMatches([]);
+    inputRef.current?.blur();
+    navigate(item.type === "PROJECT" ? `/projects/${item.id}` : `/projects/${item.projectId}/tasks/${item.id}`);
+  };
+
+  const onKeyDown = (e) => {
+    if (e.key === "ArrowDown") {
+      e.preventDefault();
+      setSelected(i => Math.min(i + 1, matches.length - 1));
+    } else if (e.key === "ArrowUp") {
+      e.preventDefault();
+      setSelected(i => Math.max(i - 1, 0));
+    } else if (e.key === "Enter" && matches[selected]) {
+      e.preventDefault();
+      open(matches[selected]);
+    } else if (e.key === "Escape") {
+      setText("");
+    }
+  };
+
+  return (
+    <div className="position-relative me-lg-3 my-2 my-lg-0">
+      <input
+        ref={inputRef}
+        type="search"
+        className="form-control form-control-sm"
+        placeholder="Jump to… (Ctrl+K)"
+        value={text}
+        onChange={e => setText(e.target.value)}
+        onKeyDown={onKeyDown}
+        onBlur={() => setTimeout(() => setMatches([]), 150)}
+      />
+      {matches.length > 0 && (
+        <ul className="list-group position-absolute w-100 shadow" style={{ zIndex: 1050 }}>
+          {matches.map((item, index) => (
+            <li
+              key={`${item.type}-${item.id}`}
+              className={`list-group-item list-group-item-action small ${index === selected ? "active" : ""}`}
+              style={{ cursor: "pointer" }}
+              onMouseDown={() => open(item)}>
+              <i className={`fas ${item.type === "PROJECT" ? "fa-folder" : "fa-tasks"} me-2`}></i>
+              {item.name}
+            </li>
+          ))}
+        </ul>
+      )}
+    </div>
+  );
+}
@@ -0,0 +1,66 @@
+// src/components/TaskActivity.jsx
+import React, { useEffect, useState } from "react";
+import { getTaskActivity } from "../api/task";
+
+const FIELD_LABELS = {
+  TITLE: "title",
+  DESCRIPTION: "description",
+  PRIORITY: "priority",
+  DUE_DATE: "due date",
+  STATUS: "status",
+  ASSIGNEE: "assignee"
+};
+
+function describe(entry) {
+  if (entry.field === "TASK") {
+    return entry.oldValue == null ? `created "${entry.newValue}"` : `deleted "${entry.oldValue}"`;
+  }
+  const from = entry.oldValue ?? "none";
+  const to = entry.newValue ?? "none";
+  return `changed ${FIELD_LABELS[entry.field]} from "${from}" to "${to}"`;
+}
+
+// Field-level change history of a task, newest first, one page at a time.
+export default function TaskActivity({ taskId }) {
+  const [entries, setEntries] = useState([]);
+  const [page, setPage] = useState(0);
+  const [hasNext, setHasNext] = useState(false);
+
+  const load = (pageToLoad) =>
+    getTaskActivity(taskId, pageToLoad)
+      .then(res => {
+        const data = res.data.data;
+        setEntries(prev => pageToLoad === 0 ? data.content : [...prev, ...data.content]);
+        setPage(pageToLoad);
+        setHasNext(data.hasNext);
+      })
+      .catch(err => console.error("Error loading task history:", err));
+
+  useEffect(() => {
+    load(0);
+  }, [taskId]);
+
+  return (
+    <div className="card mt-4">
+      <div className="card-header">
+        <h6 className="mb-0"><i className="fas fa-history me-2"></i>History</h6>
+      </div>
+      <ul className="list-group list-group-flush">
+        {entries.length === 0 && <li className="list-group-item text-muted small">No changes recorded yet.</li>}
+        {entries.map(entry => (
+          <li key={entry.id} className="list-group-item small">
+            <strong>{entry.actorName || "Someone"}</strong> {describe(entry)}
+            <span className="text-muted float-end">{new Date(entry.createdAt).toLocaleString()}</span>
+          </li>
+        ))}
+      </ul>
+      {hasNext && (
+        <div className="card-footer">
+          <button type="button" className="btn btn-sm btn-outline-secondary w-100" onClick={() => load(page + 1)}>
+            Show older
+          </button>
+        </div>
+      )}
+    </div>
+  );
+}
@@ -1,82 +1,98 @@
 // src/components/TaskBoard.jsx
-import React from "react";
+import React, { useState } from "react";
 import TaskCard from "./TaskCard";
 
-export default function TaskBoard({ tasks, projectId, onStatusChange, onAssign, onDelete, projectMembers }) {
-  const tasksByStatus = {
-    PENDING: tasks.filter(task => !task.status || task.status === 'PENDING'),
-    IN_PROGRESS: tasks.filter(task => task.status === 'IN_PROGRESS'),
-    COMPLETED: tasks.filter(task => task.status === 'COMPLETED' || task.status === 'ACCEPTED'),
-    REJECTED: tasks.filter(task => task.status === 'REJECTED')
-  };
+const COLUMN_STYLES = {
+  PENDING: { title: 'To Do', icon: 'fas fa-clock', bgClass: 'bg-light' },
+  ACCEPTED: { title: 'Accepted', icon: 'fas fa-thumbs-up', bgClass: 'bg-primary bg-opacity-10' },
+  IN_PROGRESS: { title: 'In Progress', icon: 'fas fa-spinner', bgClass: 'bg-info bg-opacity-10' },
+  COMPLETED: { title: 'Completed', icon: 'fas fa-check-circle', bgClass: 'bg-success bg-opacity-10' },
+  REJECTED: { title: 'Rejected', icon: 'fas fa-times-circle', bgClass: 'bg-danger bg-opacity-10' }
+};
+
+// Renders the server-side board: each column carries its total count and a
+// page of cards; "Load more" fetches the next page of that column only.
+// Cards can be dragged: dropping on a card places the dragged one above it,
+// dropping on empty column space places it after the last loaded card.
+export default function TaskBoard({ columns, projectId, onLoadMore, onMove, onStatusChange, onAssign, onDelete, projectMembers }) {
+  const [dragged, setDragged] = useState(null);
 
-  const columns = [
-    { 
-      key: 'PENDING', 
-      title: 'To Do', 
-      icon: 'fas fa-clock',
-      bgClass: 'bg-light',
-      count: tasksByStatus.PENDING.length 
-    },
-    { 
-      key: 'IN_PROGRESS', 
-      title: 'In Progress', 
-      icon: 'fas fa-spinner',
-      bgClass: 'bg-info bg-opacity-10',
-      count: tasksByStatus.IN_PROGRESS.length 
-    },
-    { 
-      key: 'COMPLETED', 
-      title: 'Completed', 
-      icon: 'fas fa-check-circle',
-      bgClass: 'bg-success bg-opacity-10',
-      count: tasksByStatus.COMPLETED.length 
-    },
-    { 
-      key: 'REJECTED', 
-      title: 'Rejected', 
-      icon: 'fas fa-times-circle',
-      bgClass: 'bg-danger bg-opacity-10',
-      count: tasksByStatus.REJECTED.length 
+  const drop = (e, status, afterTaskId) => {
+    e.preventDefault();
+    e.stopPropagation();
+    if (dragged && dragged.id !== afterTaskId && onMove) {
+      onMove(dragged, status, afterTaskId);
     }
-  ];
+    setDragged(null);
+  };
+
+  const ordered = Object.keys(COLUMN_STYLES)
+    .map(status => columns.find(c => c.status === status) || { status, count: 0, cards: [], nextCursor: null });
 
   return (
-    <div className="row g-3">
-      {columns.map(column => (
-        <div key={column.key} className="col-md-3">
-          <div className={`card h-100 ${column.bgClass}`}>
-            <div className="card-header d-flex justify-content-between align-items-center">
-              <h6 className="mb-0">
-                <i className={`${column.icon} me-2`}></i>
-                {column.title}
-              </h6>
-              <span className="badge bg-secondary">{column.count}</span>
-            </div>
-            <div className="card-body" style={{maxHeight: '70vh', overflowY: 'auto'}}>
-              {tasksByStatus[column.key].length === 0 ? (
-                <div className="text-center text-muted py-4">
-                  <i className={`${column.icon} fa-2x mb-2 opacity-50`}></i>
-                  <p className="small">No tasks in {column.title.toLowerCase()}</p>
-                </div>
-              ) : (
-                tasksByStatus[column.key].map(task => (
-                  <TaskCard 
-                    key={task.id} 
-                    task={task} 
-                    projectId={projectId}
-                    onStatusChange={onStatusChange}
-                    onAssign={onAssign}
-                    onDelete={onDelete}
-                    projectMembers={projectMembers}
-                    showActions={true}
-                  />
-                ))
-              )}
+    <div className="row g-3 row-cols-1 row-cols-md-5">
+      {ordered.map(column => {
+        const style = COLUMN_STYLES[column.status];
+        return (
+          <div key={column.status} className="col">
+            <div className={`card h-100 ${style.bgClass}`}>
+              <div className="card-header d-flex justify-content-between align-items-center">
+                <h6 className="mb-0">
+                  <i className={`${style.icon} me-2`}></i>
+                  {style.title}
+                </h6>
+                <span className="badge bg-secondary">{column.count}</span>
+              </div>
+              <div
+                className="card-body"
+                style={{maxHeight: '70vh', overflowY: 'auto'}}
+                onDragOver={e => e.preventDefault()}
+                onDrop={e => {
+                  const others = column.cards.filter(c => c.id !== dragged?.id);
+                  drop(e, column.status, others.length ? others[others.length - 1].id : null);
+                }}>
+                {column.cards.length === 0 ? (
+                  <div className="text-center text-muted py-4">
+                    <i className={`${style.icon} fa-2x mb-2 opacity-50`}></i>
+                    <p className="small">No tasks in {style.title.toLowerCase()}</p>
+                  </div>
+                ) : (
+                  column.cards.map((task, index) => (
+                    <div
+                      key={task.id}
+                      draggable
+                      onDragStart={() => setDragged(task)}
+                      onDragEnd={() => setDragged(null)}
+                      onDragOver={e => e.preventDefault()}
+                      onDrop={e => {
+                        const above = column.cards.slice(0, index).filter(c => c.id !== dragged?.id);
+                        drop(e, column.status, above.length ? above[above.length - 1].id : null);
+                      }}>
+                      <TaskCard 
+                        task={task} 
+                        projectId={projectId}
+                        onStatusChange={onStatusChange}
+                        onAssign={onAssign}
+                        onDelete={onDelete}
+                        projectMembers={projectMembers}
+                        showActions={true}
+                      />
+                    </div>
+                  ))
+                )}
+                {column.nextCursor && (
+                  <button
+                    type="button"
+                    className="btn btn-sm btn-outline-secondary w-100"
+                    onClick={() => onLoadMore(column.status, column.nextCursor)}>
+                    Load more ({column.count - column.cards.length} left)
+                  </button>
+                )}
+              </div>
             </div>
           </div>
-        </div>
-      ))}
+        );
+      })}
     </div>
   );
 }
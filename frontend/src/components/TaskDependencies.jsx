@@ -0,0 +1,112 @@
+// src/components/TaskDependencies.jsx
+import React, { useEffect, useState } from "react";
+import { Link } from "react-router-dom";
+import { getTaskDependencies, addTaskDependency, removeTaskDependency, getTasksByProject } from "../api/task";
+import { showError } from "../utils/toastUtils";
+import { formatDate } from "../utils/badgeUtils";
+
+function ScheduledTask({ projectId, entry, onRemove }) {
+  return (
+    <li className="list-group-item small d-flex justify-content-between align-items-center">
+      <span>
+        <Link to={`/projects/${projectId}/tasks/${entry.taskId}`}>{entry.title}</Link>
+        <span className="text-muted ms-2">{entry.status}</span>
+        {entry.late && <span className="badge bg-danger ms-2">late</span>}
+      </span>
+      <span>
+        <span className="text-muted me-2">finishes {entry.earliestFinish ? formatDate(entry.earliestFinish) : "—"}</span>
+        {onRemove && (
+          <button type="button" className="btn btn-sm btn-outline-danger" onClick={() => onRemove(entry.taskId)}>
+            <i className="fas fa-times"></i>
+          </button>
+        )}
+      </span>
+    </li>
+  );
+}
+
+// Blocked-by / blocks links of a task, with the earliest date each can finish.
+export default function TaskDependencies({ taskId, projectId }) {
+  const [deps, setDeps] = useState(null);
+  const [candidates, setCandidates] = useState([]);
+  const [blockerId, setBlockerId] = useState("");
+
+  const load = () =>
+    getTaskDependencies(taskId)
+      .then(res => setDeps(res.data.data))
+      .catch(err => console.error("Error loading dependencies:", err));
+
+  useEffect(() => {
+    load();
+    getTasksByProject(projectId)
+      .then(res => setCandidates((Array.isArray(res.data) ? res.data : []).filter(t => String(t.id) !== String(taskId))))
+      .catch(err => console.error("Error loading project tasks:", err));
+  }, [taskId, projectId]);
+
+  const handleAdd = async (e) => {
+    e.preventDefault();
+    if (!blockerId) return;
+    try {
+      await addTaskDependency(taskId, blockerId);
+      setBlockerId("");
+      load();
+    } catch (err) {
+      showError("Failed to add blocker: " + (err.response?.data?.message || err.message));
+    }
+  };
+
+  const handleRemove = async (id) => {
+    try {
+      await removeTaskDependency(taskId, id);
+      load();
+    } catch (err) {
+      showError("Failed to remove blocker: " + (err.response?.data?.message || err.message));
+    }
+  };
+
+  if (!deps) return null;
+  const linked = new Set(deps.blockedBy.map(d => d.taskId));
+
+  return (
+    <div className="card mt-4">
+      <div className="card-header d-flex justify-content-between align-items-center">
+        <h6 className="mb-0"><i className="fas fa-project-diagram me-2"></i>Dependencies</h6>
+        <small className={deps.task.late ? "text-danger" : "text-muted"}>
+          Earliest finish: {deps.task.earliestFinish ? formatDate(deps.task.earliestFinish) : "not scheduled"}
+        </small>
+      </div>
+      <div className="card-body pb-0">
+        <h6 className="small text-muted">Blocked by</h6>
+      </div>
+      <ul className="list-group list-group-flush">
+        {deps.blockedBy.length === 0 && <li className="list-group-item text-muted small">Nothing blocks this task.</li>}
+        {deps.blockedBy.map(entry => (
+          <ScheduledTask key={entry.taskId} projectId={projectId} entry={entry} onRemove={handleRemove} />
+        ))}
+      </ul>
+      {deps.blocks.length > 0 && (
+        <>
+          <div className="card-body pb-0">
+            <h6 className="small text-muted">Blocks</h6>
+          </div>
+          <ul className="list-group list-group-flush">
+            {deps.blocks.map(entry => (
+              <ScheduledTask key={entry.taskId} projectId={projectId} entry={entry} />
+            ))}
+          </ul>
+        </>
+      )}
+      <div className="card-footer">
+        <form className="d-flex gap-2" onSubmit={handleAdd}>
+          <select className="form-select form-select-sm" value={blockerId} onChange={e => setBlockerId(e.target.value)}>
+            <option value="">Add a blocking task…</option>
+            {candidates.filter(t => !linked.has(t.id)).map(t => (
+              <option key={t.id} value={t.id}>{t.title}</option>
+            ))}
+          </select>
+          <button type="submit" className="btn btn-sm btn-outline-primary" disabled={!blockerId}>Add</button>
+        </form>
+      </div>
+    </div>
+  );
+}
@@ -3,7 +3,7 @@ import React, { useEffect, useState } from "react";
 import { Link } from "react-router-dom";
 import { useAuth } from "../context/AuthContext";
 import { getAllProjects } from "../api/project";
-import { getAllTasks } from "../api/task";
+import { getAllTasks, getMyDueTasks } from "../api/task";
 import { getUnreadNotifications } from "../api/notification";
 import { toast } from 'react-toastify';
 
@@ -12,7 +12,7 @@ export default function Dashboard() {
   const userId = user?.id ?? user?.userId ?? null;
 
   const [projects, setProjects] = useState([]);
-  const [tasks, setTasks] = useState([]);
+  const [upcomingTasks, setUpcomingTasks] = useState([]);
   const [notifications, setNotifications] = useState([]);
   const [loading, setLoading] = useState(true);
   const [stats, setStats] = useState({
@@ -21,7 +21,7 @@ export default function Dashboard() {
     totalTasks: 0,
     completedTasks: 0,
     pendingTasks: 0,
-    upcomingTasks: 0
+    upcomingTasks: '0'
   });
 
   useEffect(() => {
@@ -34,7 +34,8 @@ export default function Dashboard() {
       setLoading(true);
       console.log('Loading dashboard data for user:', userId);
       
-      const [projectsRes, tasksRes, notificationsRes] = await Promise.all([
+      const emptyPage = { data: { content: [], hasNext: false } };
+      const [projectsRes, tasksRes, notificationsRes, upcomingRes] = await Promise.all([
         getAllProjects().catch(err => {
           console.log('Projects API error:', err);
           return { data: [] };
@@ -46,6 +47,11 @@ export default function Dashboard() {
         getUnreadNotifications().catch(err => {
           console.log('Notifications API error:', err);
           return { data: [] };
+        }),
+        // My open tasks due in the next 7 days, filtered and paged on the server
+        getMyDueTasks('upcoming', { days: 7, size: 20 }).catch(err => {
+          console.log('Due tasks API error:', err);
+          return emptyPage;
         })
       ]);
 
@@ -54,29 +60,22 @@ export default function Dashboard() {
       const projectData = Array.isArray(projectsRes.data) ? projectsRes.data : [];
       const taskData = Array.isArray(tasksRes.data) ? tasksRes.data : [];
       const notificationData = Array.isArray(notificationsRes.data) ? notificationsRes.data : [];
+      const upcomingPage = upcomingRes.data || emptyPage.data;
 
       console.log('Processed data:', { projectData, taskData, notificationData });
 
       setProjects(projectData);
-      setTasks(taskData);
+      setUpcomingTasks(upcomingPage.content);
       setNotifications(notificationData);
 
-      // Calculate upcoming tasks (tasks with deadlines in next 7 days)
-      const now = new Date();
-      const nextWeek = new Date(now.getTime() + 7 * 24 * 60 * 60 * 1000);
-      const upcomingTasks = taskData.filter(task => {
-        if (!task.deadline) return false;
-        const deadline = new Date(task.deadline);
-        return deadline >= now && deadline <= nextWeek;
-      }).length;
-
       const calculatedStats = {
         totalProjects: projectData.length,
         activeProjects: projectData.filter(p => p.status === 'ACTIVE').length,
         totalTasks: taskData.length,
         completedTasks: taskData.filter(t => t.status === 'COMPLETED').length,
         pendingTasks: taskData.filter(t => t.status === 'PENDING').length,
-        upcomingTasks
+        // the page holds at most 20 rows; "20+" when there are more
+        upcomingTasks: `${upcomingPage.content.length}${upcomingPage.hasNext ? '+' : ''}`
       };
 
       console.log('Calculated stats:', calculatedStats);
@@ -97,15 +96,7 @@ export default function Dashboard() {
     return 'Good Evening';
   };
 
-  const getUpcomingTasks = () => {
-    const now = new Date();
-    const nextWeek = new Date(now.getTime() + 7 * 24 * 60 * 60 * 1000);
-    return tasks.filter(task => {
-      if (!task.deadline) return false;
-      const deadline = new Date(task.deadline);
-      return deadline >= now && deadline <= nextWeek;
-    }).slice(0, 5);
-  };
+  const getUpcomingTasks = () => upcomingTasks.slice(0, 5);
 
 
 
@@ -295,7 +286,7 @@ export default function Dashboard() {
                       <div className="flex-grow-1 ms-2">
                         <h6 className="mb-1 small">{task.title}</h6>
                         <small className="text-muted">
-                          Due: {new Date(task.deadline).toLocaleDateString()}
+                          Due: {new Date(`${task.dueDate}T00:00:00`).toLocaleDateString()}
                         </small>
                       </div>
                     </div>
@@ -26,8 +26,15 @@ export default function NotificationPage() {
   const socket = new WebSocket(url);
     socket.onmessage = (event) => {
       try {
+        // The server batches pushes per user into an array; deliveries are
+        // at-least-once, so skip anything already in the list.
         const data = JSON.parse(event.data);
-        setNotifications((prev) => [data, ...prev]);
+        const incoming = (Array.isArray(data) ? data : [data]).reverse();
+        setNotifications((prev) => {
+          const seen = new Set(prev.flatMap((n) => [n.id, n.deliveryId]));
+          const fresh = incoming.filter((n) => !seen.has(n.id) && !seen.has(n.deliveryId));
+          return [...fresh, ...prev];
+        });
       } catch (e) {
         console.error('Failed to parse WebSocket message', e);
       }
@@ -2,13 +2,13 @@
 import React, { useEffect, useState } from "react";
 import { useParams, Link } from "react-router-dom";
 import { showSuccess, showError, showWarning } from "../utils/toastUtils";
-import { getProject } from "../api/project";
-import { getMyRoleInProject } from "../api/user";
-import { getProjectMembers } from "../api/member";
-import { getTasksByProject, updateTaskStatus, reassignTask, deleteTask } from "../api/task";
+import { getProjectView } from "../api/project";
+import { updateTaskStatus, reassignTask, deleteTask } from "../api/task";
 import MemberCard from "../components/MemberCard";
 import TaskCard from "../components/TaskCard";
 import CommentSection from "../components/CommentSection";
+import ProjectAnalytics from "../components/ProjectAnalytics";
+import CriticalPath from "../components/CriticalPath";
 import AssignMember from "../components/AssignMember";
 
 import ProjectStatusManager from "../components/ProjectStatusManager";
@@ -30,52 +30,28 @@ export default function ProjectDetails() {
 
   const loadProjectData = () => {
     setLoading(true);
-    Promise.all([
-      getProject(id).catch(err => {
-        console.error("Failed to load project:", err);
-        return { data: { id, name: "Project", description: "Failed to load project details" } };
-      }),
-      getProjectMembers(id).then(res => res.data?.data || res.data || []).catch(err => {
-        console.error("Failed to load members:", err);
-        return [];
-      }),
-      getTasksByProject(id).catch(err => {
-        console.error("Failed to load tasks:", err);
-        return { data: [] };
-      })
-    ]).then(([projectRes, membersData, tasksRes]) => {
-      const projectData = projectRes.data || {};
-      const tasksData = Array.isArray(tasksRes.data) ? tasksRes.data : [];
-      
-      setProject(projectData);
-      setMembers(Array.isArray(membersData) ? membersData : []);
-      setTasks(tasksData);
-      
-      // Get current user's role in this project
-      if (user?.id) {
-        getMyRoleInProject(id)
-          .then(roleRes => {
-            const role = roleRes.data?.data;
-            setUserRole(role);
-            setIsManager(role === 'MANAGER');
-            setRoleChecked(true);
-          })
-          .catch(err => {
-            console.error('Failed to get user role:', err);
-            setUserRole(null);
-            setIsManager(false);
-            setRoleChecked(true);
-          });
-      } else {
-        setRoleChecked(true);
-      }
+    // One round trip: the server loads project, members, tasks and role in parallel
+    getProjectView(id).then(res => {
+      const view = res.data || {};
+      setProject(view.project || {});
+      setMembers(Array.isArray(view.members) ? view.members : []);
+      setTasks(Array.isArray(view.tasks) ? view.tasks : []);
+      setUserRole(view.myRole || null);
+      setIsManager(view.myRole === 'MANAGER');
+      setRoleChecked(true);
       setLoading(false);
     }).catch(err => {
       console.error("Error loading project details:", err);
-      showError('Failed to load project details: ' + (err.response?.data?.message || err.message));
+      // 403 means the caller is not a member; the page shows that message itself
+      if (err.response?.status !== 403) {
+        showError('Failed to load project details: ' + (err.response?.data?.message || err.message));
+      }
       setProject({});
       setMembers([]);
       setTasks([]);
+      setUserRole(null);
+      setIsManager(false);
+      setRoleChecked(true);
       setLoading(false);
     });
   };
@@ -307,6 +283,10 @@ export default function ProjectDetails() {
         </div>
       </div>
 
+      <ProjectAnalytics projectId={id} />
+
+      <CriticalPath projectId={id} />
+
       {/* Project Comments Section */}
       <CommentSection 
         type="project" 
@@ -137,7 +137,8 @@ export default function ProjectList() {
                   createdAt: project.createdAt,
                   dueDate: project.dueDate,
                   memberCount: project.memberCount,
-                  taskCount: project.taskCount
+                  taskCount: project.taskCount,
+                  statusCounts: project.statusCounts
                 }}
               />
             ))}
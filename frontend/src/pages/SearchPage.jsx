@@ -0,0 +1,83 @@
+// src/pages/SearchPage.jsx
+import React, { useEffect, useState } from "react";
+import { Link, useSearchParams } from "react-router-dom";
+import { search } from "../api/search";
+
+const TYPES = [
+  { value: "", label: "All" },
+  { value: "task", label: "Tasks" },
+  { value: "project", label: "Projects" },
+  { value: "comment", label: "Comments" }
+];
+
+function hitLink(hit) {
+  if (hit.type === "PROJECT" || hit.taskId == null) return `/projects/${hit.projectId}`;
+  return `/projects/${hit.projectId}/tasks/${hit.taskId}`;
+}
+
+export default function SearchPage() {
+  const [params, setParams] = useSearchParams();
+  const [text, setText] = useState(params.get("q") || "");
+  const [hits, setHits] = useState([]);
+  const [error, setError] = useState(null);
+  const query = params.get("q") || "";
+  const type = params.get("type") || "";
+
+  // Debounce typing; the URL holds the submitted query so results can be shared and revisited
+  useEffect(() => {
+    const timer = setTimeout(() => {
+      if (text.trim() !== query) setParams(text.trim() ? { q: text.trim(), type } : {});
+    }, 250);
+    return () => clearTimeout(timer);
+  }, [text]);
+
+  useEffect(() => {
+    if (!query) {
+      setHits([]);
+      return;
+    }
+    search(query, type)
+      .then(res => {
+        setHits(res.data.data || []);
+        setError(null);
+      })
+      .catch(err => setError(err.response?.data?.message || "Search failed"));
+  }, [query, type]);
+
+  return (
+    <div className="container mt-4">
+      <h3>Search</h3>
+      <div className="input-group mb-3">
+        <input
+          type="search"
+          className="form-control"
+          placeholder='Search tasks, projects and comments ("exact phrase", -exclude, prefix*)'
+          value={text}
+          autoFocus
+          onChange={e => setText(e.target.value)}
+        />
+        <select
+          className="form-select"
+          style={{ maxWidth: "10rem" }}
+          value={type}
+          onChange={e => setParams(query ? { q: query, type: e.target.value } : {})}>
+          {TYPES.map(t => <option key={t.value} value={t.value}>{t.label}</option>)}
+        </select>
+      </div>
+      {error && <div className="alert alert-danger">{error}</div>}
+      {query && !error && hits.length === 0 && <p className="text-muted">No results.</p>}
+      <div className="list-group">
+        {hits.map(hit => (
+          // title and snippet come HTML-escaped from the server, with matches in <mark>
+          <Link key={`${hit.type}-${hit.id}`} to={hitLink(hit)} className="list-group-item list-group-item-action">
+            <div className="d-flex justify-content-between">
+              <strong dangerouslySetInnerHTML={{ __html: hit.title || "" }} />
+              <span className="badge bg-secondary">{hit.type.toLowerCase()}</span>
+            </div>
+            {hit.snippet && <small className="text-muted" dangerouslySetInnerHTML={{ __html: hit.snippet }} />}
+          </Link>
+        ))}
+      </div>
+    </div>
+  );
+}
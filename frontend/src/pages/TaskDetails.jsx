@@ -5,6 +5,8 @@ import { getTask, updateTaskStatus, reassignTask, deleteTask } from "../api/task
 import { getProject } from "../api/project";
 import { useAuth } from "../context/AuthContext";
 import CommentSection from "../components/CommentSection";
+import TaskActivity from "../components/TaskActivity";
+import TaskDependencies from "../components/TaskDependencies";
 import { getStatusBadgeClass, getPriorityBadgeClass, formatDate } from "../utils/badgeUtils";
 
 export default function TaskDetails() {
@@ -239,6 +241,10 @@ export default function TaskDetails() {
         entityId={id} 
         projectId={projectId}
       />
+
+      <TaskDependencies taskId={id} projectId={projectId} />
+
+      <TaskActivity taskId={id} />
     </div>
   );
 }
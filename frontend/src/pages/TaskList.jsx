@@ -1,7 +1,7 @@
 // src/pages/TaskList.jsx
 import React, { useEffect, useState } from "react";
 import { useParams, Link } from "react-router-dom";
-import { getTasksByProject, updateTaskStatus, reassignTask, deleteTask } from "../api/task";
+import { getTasksByProject, getTaskBoard, getTaskBoardColumn, updateTaskStatus, moveTask, reassignTask, deleteTask } from "../api/task";
 import { getProject } from "../api/project";
 import { getProjectMembers } from "../api/member";
 import { handleApiResponse } from "../api/utils";
@@ -11,70 +11,109 @@ import TaskBoard from "../components/TaskBoard";
 export default function TaskList() {
   const { projectId } = useParams();
   const [tasks, setTasks] = useState([]);
+  const [tasksLoaded, setTasksLoaded] = useState(false);
+  const [boardColumns, setBoardColumns] = useState([]);
   const [project, setProject] = useState({});
   const [projectMembers, setProjectMembers] = useState([]);
   const [loading, setLoading] = useState(true);
   const [viewMode, setViewMode] = useState('board'); // 'list' or 'board'
   const [filter, setFilter] = useState('ALL');
 
+  // The board comes from the server already grouped and paged per column;
+  // the full task list is only fetched when the list view is opened.
+  const loadBoard = () =>
+    getTaskBoard(projectId)
+      .then(res => setBoardColumns(res.data?.columns || []))
+      .catch(err => {
+        console.error("Error loading board:", err);
+        setBoardColumns([]);
+      });
+
+  const loadTasks = () =>
+    getTasksByProject(projectId)
+      .then(res => {
+        const tasksData = handleApiResponse(res, []);
+        setTasks(Array.isArray(tasksData) ? tasksData : []);
+        setTasksLoaded(true);
+      })
+      .catch(() => setTasks([]));
+
+  const refresh = () => Promise.all([loadBoard(), tasksLoaded ? loadTasks() : null]);
+
   useEffect(() => {
     if (projectId) {
       Promise.all([
-        getTasksByProject(projectId).catch(() => ({ data: { data: [] } })),
+        loadBoard(),
         getProject(projectId).catch(() => ({ data: { data: {} } })),
         getProjectMembers(projectId).catch(() => ({ data: { data: [] } }))
-      ]).then(([tasksRes, projectRes, membersRes]) => {
+      ]).then(([, projectRes, membersRes]) => {
         // Use utility function to handle ApiResponse format
-        const tasksData = handleApiResponse(tasksRes, []);
         const projectData = handleApiResponse(projectRes, {});
         const membersData = handleApiResponse(membersRes, []);
         
-        setTasks(Array.isArray(tasksData) ? tasksData : []);
         setProject(projectData);
         setProjectMembers(Array.isArray(membersData) ? membersData : []);
         setLoading(false);
       }).catch(err => {
         console.error("Error loading data:", err);
-        setTasks([]);
         setProject({});
         setProjectMembers([]);
         setLoading(false);
       });
     }
+    // eslint-disable-next-line
   }, [projectId]);
 
+  useEffect(() => {
+    if (projectId && viewMode === 'list' && !tasksLoaded) {
+      loadTasks();
+    }
+    // eslint-disable-next-line
+  }, [projectId, viewMode]);
+
+  const handleLoadMore = async (status, cursor) => {
+    try {
+      const res = await getTaskBoardColumn(projectId, status, cursor);
+      const page = res.data;
+      setBoardColumns(columns => columns.map(column =>
+        column.status === status
+          ? { ...column, count: page.count, cards: [...column.cards, ...page.cards], nextCursor: page.nextCursor }
+          : column
+      ));
+    } catch (error) {
+      console.error("Error loading more tasks:", error);
+    }
+  };
+
   const handleStatusChange = async (taskId, newStatus) => {
     try {
       await updateTaskStatus(taskId, newStatus);
-      setTasks(tasks.map(task => 
-        task.id === taskId ? { ...task, status: newStatus } : task
-      ));
+      // the card moves to another column, so reload the board
+      await refresh();
     } catch (error) {
       console.error("Error updating task status:", error);
     }
   };
 
+  const handleMove = async (task, status, afterTaskId) => {
+    try {
+      await moveTask(task.id, { status, afterTaskId }, task.version);
+      await refresh();
+    } catch (error) {
+      console.error("Error moving task:", error);
+      alert(error.response?.data?.message || "Could not move the task, the board was reloaded.");
+      await refresh();
+    }
+  };
+
   const handleTaskAssign = async (taskId, assigneeId) => {
     try {
       // The backend obtains the requesting user from the authentication principal
       // Only the taskId and new assignee are required.
       await reassignTask(taskId, assigneeId);
 
-      // Find the assignee name among the loaded project members.  The
-      // projectMembers list comes from the /project-members endpoint and
-      // contains userId and userName fields.
-      const assignee = projectMembers.find(member => member.userId == assigneeId);
-      const assigneeName = assignee ? assignee.userName : '';
-
-      setTasks(tasks.map(task => 
-        task.id === taskId
-          ? {
-              ...task,
-              assignedUserId: assigneeId || null,
-              assignedUserName: assigneeName || null,
-            }
-          : task
-      ));
+      // reassignment also resets the status, so the card may change column
+      await refresh();
     } catch (error) {
       console.error("Error assigning task:", error);
     }
@@ -86,9 +125,7 @@ export default function TaskList() {
       const userId = currentUser.id || currentUser.userId || 1;
       
       await deleteTask(taskId, userId);
-      
-      // Remove task from the list
-      setTasks(tasks.filter(task => task.id !== taskId));
+      await refresh();
     } catch (error) {
       console.error("Error deleting task:", error);
       alert("Failed to delete task: " + (error.response?.data?.message || error.message));
@@ -100,15 +137,16 @@ export default function TaskList() {
     return tasks.filter(task => task.status === filter);
   };
 
+  // Column counts come with the board, so stats need no task list
   const getTaskStats = () => {
-    const stats = {
-      total: tasks.length,
-      pending: tasks.filter(t => t.status === 'PENDING').length,
-      inProgress: tasks.filter(t => t.status === 'IN_PROGRESS').length,
-      completed: tasks.filter(t => t.status === 'COMPLETED').length,
-      rejected: tasks.filter(t => t.status === 'REJECTED').length
+    const count = status => boardColumns.find(c => c.status === status)?.count || 0;
+    return {
+      total: boardColumns.reduce((sum, c) => sum + c.count, 0),
+      pending: count('PENDING'),
+      inProgress: count('IN_PROGRESS'),
+      completed: count('COMPLETED'),
+      rejected: count('REJECTED')
     };
-    return stats;
   };
 
   if (loading) {
@@ -236,7 +274,7 @@ export default function TaskList() {
       </div>
 
       {/* Task Display */}
-      {tasks.length === 0 ? (
+      {stats.total === 0 ? (
         <div className="text-center py-5">
           <i className="fas fa-tasks fa-4x text-muted mb-3"></i>
           <h4 className="text-muted">No Tasks Yet</h4>
@@ -249,8 +287,10 @@ export default function TaskList() {
         <>
           {viewMode === 'board' ? (
             <TaskBoard 
-              tasks={filteredTasks} 
+              columns={boardColumns} 
               projectId={projectId}
+              onLoadMore={handleLoadMore}
+              onMove={handleMove}
               onStatusChange={handleStatusChange}
               onAssign={handleTaskAssign}
               onDelete={handleTaskDelete}